@@ -18,6 +18,7 @@ package com.webauthn4j.appattest.server;
 
 import com.webauthn4j.data.client.challenge.Challenge;
 import com.webauthn4j.server.CoreServerProperty;
+import com.webauthn4j.server.RpId;
 import com.webauthn4j.util.AssertUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -34,6 +35,16 @@ public class DCServerProperty extends CoreServerProperty {
         super(rpId, challenge);
     }
 
+    /**
+     * Constructor of {@link DCServerProperty}
+     *
+     * @param rpId      App ID with its precomputed hash, which can be shared across ceremonies
+     * @param challenge challenge
+     */
+    public DCServerProperty(@NotNull RpId rpId, @Nullable Challenge challenge) {
+        super(rpId, challenge);
+    }
+
     /**
      * Constructor of {@link DCServerProperty}
      *
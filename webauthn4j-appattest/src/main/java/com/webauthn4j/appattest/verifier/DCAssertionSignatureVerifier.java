@@ -21,7 +21,9 @@ import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.verifier.internal.AssertionSignatureVerifier;
 import org.jetbrains.annotations.NotNull;
 
-import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.SignatureException;
 
 public class DCAssertionSignatureVerifier extends AssertionSignatureVerifier {
 
@@ -29,10 +31,10 @@ public class DCAssertionSignatureVerifier extends AssertionSignatureVerifier {
     // ========================================================================================================
 
     @Override
-    protected @NotNull byte[] getSignedData(@NotNull CoreAuthenticationData authenticationData) {
-        byte[] rawAuthenticatorData = authenticationData.getAuthenticatorDataBytes();
-        byte[] clientDataHash = authenticationData.getClientDataHash();
-        byte[] concatenated = ByteBuffer.allocate(rawAuthenticatorData.length + clientDataHash.length).put(rawAuthenticatorData).put(clientDataHash).array();
-        return MessageDigestUtil.createSHA256().digest(concatenated);
+    protected void updateSignedData(@NotNull Signature verifier, @NotNull CoreAuthenticationData authenticationData) throws SignatureException {
+        MessageDigest messageDigest = MessageDigestUtil.getSHA256();
+        messageDigest.update(authenticationData.getAuthenticatorDataByteBuffer());
+        messageDigest.update(authenticationData.getClientDataHashByteBuffer());
+        verifier.update(messageDigest.digest());
     }
 }
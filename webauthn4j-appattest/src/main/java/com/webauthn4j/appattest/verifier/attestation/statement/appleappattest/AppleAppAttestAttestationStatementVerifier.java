@@ -92,7 +92,7 @@ public class AppleAppAttestAttestationStatementVerifier extends AbstractStatemen
         byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
         byte[] composite = ByteBuffer.allocate(authenticatorData.length + clientDataHash.length)
                 .put(authenticatorData).put(clientDataHash).array();
-        byte[] expectedNonce = MessageDigestUtil.createSHA256().digest(composite);
+        byte[] expectedNonce = MessageDigestUtil.getSHA256().digest(composite);
 
         // As nonce is known data to client side(potential attacker), there is no risk of timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual`
         if (!Arrays.equals(actualNonce, expectedNonce)) {
@@ -106,7 +106,7 @@ public class AppleAppAttestAttestationStatementVerifier extends AbstractStatemen
         byte[] keyId = dcRegistrationObject.getKeyId();
         // As publicKey is known data to client side(potential attacker) because it is calculated from parts of a message,
         // there is no need to prevent timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
-        if (!Arrays.equals(MessageDigestUtil.createSHA256().digest(publicKey), keyId)) {
+        if (!Arrays.equals(MessageDigestUtil.getSHA256().digest(publicKey), keyId)) {
             throw new BadAttestationStatementException("key identifier doesn't match SHA-256 of the publickey");
         }
     }
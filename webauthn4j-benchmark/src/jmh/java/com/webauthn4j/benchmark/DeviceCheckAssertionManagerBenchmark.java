@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.appattest.DeviceCheckAssertionManager;
+import com.webauthn4j.appattest.authenticator.DCAppleDevice;
+import com.webauthn4j.appattest.authenticator.DCAppleDeviceImpl;
+import com.webauthn4j.appattest.data.DCAssertion;
+import com.webauthn4j.appattest.data.DCAssertionData;
+import com.webauthn4j.appattest.data.DCAssertionParameters;
+import com.webauthn4j.appattest.data.DCAssertionRequest;
+import com.webauthn4j.appattest.server.DCServerProperty;
+import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.util.ECUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.SignatureUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DeviceCheckAssertionManager} parse and verify with an App Attest assertion signed by a generated device key.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DeviceCheckAssertionManagerBenchmark {
+
+    private static final String TEAM_IDENTIFIER = "8YE23NZS57";
+    private static final String CF_BUNDLE_IDENTIFIER = "com.webauthn4j.benchmark";
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final AuthenticatorDataConverter authenticatorDataConverter = new AuthenticatorDataConverter(objectConverter);
+
+    private final DeviceCheckAssertionManager deviceCheckAssertionManager = new DeviceCheckAssertionManager(Collections.emptyList(), objectConverter);
+
+    private DCAssertionRequest dcAssertionRequest;
+    private DCAssertionData dcAssertionData;
+    private DCAssertionParameters dcAssertionParameters;
+    private DCAppleDevice dcAppleDevice;
+
+    @Setup(Level.Trial)
+    public void setup() throws GeneralSecurityException {
+        KeyPair keyPair = ECUtil.createKeyPair();
+        byte[] keyId = MessageDigestUtil.createSHA256().digest(ECUtil.createUncompressedPublicKey((ECPublicKey) keyPair.getPublic()));
+        AttestedCredentialData attestedCredentialData = new AttestedCredentialData(AAGUID.ZERO, keyId, EC2COSEKey.create((ECPublicKey) keyPair.getPublic(), COSEAlgorithmIdentifier.ES256));
+        dcAppleDevice = new DCAppleDeviceImpl(attestedCredentialData, null, 0, null);
+
+        DCServerProperty dcServerProperty = new DCServerProperty(TEAM_IDENTIFIER, CF_BUNDLE_IDENTIFIER, new DefaultChallenge());
+        byte[] rpIdHash = MessageDigestUtil.createSHA256().digest(dcServerProperty.getRpId().getBytes(StandardCharsets.UTF_8));
+        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = new AuthenticatorData<>(rpIdHash, (byte) 0, 1);
+        byte[] authenticatorDataBytes = authenticatorDataConverter.convert(authenticatorData);
+        byte[] clientDataHash = MessageDigestUtil.createSHA256().digest(new DefaultChallenge().getValue());
+
+        byte[] nonce = MessageDigestUtil.createSHA256().digest(ByteBuffer.allocate(authenticatorDataBytes.length + clientDataHash.length).put(authenticatorDataBytes).put(clientDataHash).array());
+        Signature signature = SignatureUtil.createES256();
+        signature.initSign(keyPair.getPrivate());
+        signature.update(nonce);
+        byte[] assertion = objectConverter.getCborConverter().writeValueAsBytes(new DCAssertion(signature.sign(), authenticatorDataBytes));
+
+        dcAssertionRequest = new DCAssertionRequest(keyId, assertion, clientDataHash);
+        dcAssertionData = deviceCheckAssertionManager.parse(dcAssertionRequest);
+        dcAssertionParameters = new DCAssertionParameters(dcServerProperty, dcAppleDevice);
+    }
+
+    @Benchmark
+    public DCAssertionData parseDCAssertionRequest() {
+        return deviceCheckAssertionManager.parse(dcAssertionRequest);
+    }
+
+    @Benchmark
+    public DCAssertionData verifyDCAssertionData() {
+        // the verifier advances the stored counter, so it is rewound to let the same assertion be verified repeatedly
+        dcAppleDevice.setCounter(0);
+        return deviceCheckAssertionManager.verify(dcAssertionData, dcAssertionParameters);
+    }
+
+    @Benchmark
+    public DCAssertionData parseAndVerifyDCAssertionRequest() {
+        dcAppleDevice.setCounter(0);
+        return deviceCheckAssertionManager.verify(dcAssertionRequest, dcAssertionParameters);
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnAuthenticationManager;
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.CollectedClientDataConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.credential.CredentialRecordImpl;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.authenticator.webauthn.PackedAuthenticator;
+import com.webauthn4j.test.authenticator.webauthn.WebAuthnAuthenticatorAdaptor;
+import com.webauthn4j.test.client.ClientPlatform;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link WebAuthnAuthenticationManager} parse and verify with an assertion generated by the packed authenticator emulator.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class WebAuthnAuthenticationManagerBenchmark {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final AttestationObjectConverter attestationObjectConverter = new AttestationObjectConverter(objectConverter);
+    private final CollectedClientDataConverter collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
+    private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
+
+    private final WebAuthnAuthenticationManager webAuthnAuthenticationManager = new WebAuthnAuthenticationManager(Collections.emptyList(), objectConverter);
+
+    private String authenticationResponseJSON;
+    private AuthenticationRequest authenticationRequest;
+    private AuthenticationData authenticationData;
+    private AuthenticationParameters authenticationParameters;
+    private CredentialRecord credentialRecord;
+    private long storedCounter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String rpId = "example.com";
+        Origin origin = new Origin("https://example.com");
+        Challenge challenge = new DefaultChallenge();
+        ClientPlatform clientPlatform = new ClientPlatform(origin, new WebAuthnAuthenticatorAdaptor(new PackedAuthenticator()));
+
+        PublicKeyCredentialCreationOptions credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(rpId, "example.com"),
+                new PublicKeyCredentialUserEntity(new byte[32], "username", "displayName"),
+                challenge,
+                Collections.singletonList(new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256)),
+                null,
+                Collections.emptyList(),
+                new AuthenticatorSelectionCriteria(AuthenticatorAttachment.CROSS_PLATFORM, true, UserVerificationRequirement.REQUIRED),
+                AttestationConveyancePreference.NONE,
+                new AuthenticationExtensionsClientInputs<>()
+        );
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> registrationCredential = clientPlatform.create(credentialCreationOptions);
+        AuthenticatorAttestationResponse attestationResponse = registrationCredential.getResponse();
+        AttestationObject attestationObject = attestationObjectConverter.convert(attestationResponse.getAttestationObject());
+        credentialRecord = new CredentialRecordImpl(
+                attestationObject,
+                collectedClientDataConverter.convert(attestationResponse.getClientDataJSON()),
+                registrationCredential.getClientExtensionResults(),
+                attestationResponse.getTransports()
+        );
+        storedCounter = credentialRecord.getCounter();
+
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+
+        authenticationResponseJSON = objectConverter.getJsonConverter().writeValueAsString(credential);
+        authenticationRequest = new AuthenticationRequest(
+                credential.getRawId(),
+                credential.getResponse().getAuthenticatorData(),
+                credential.getResponse().getClientDataJSON(),
+                authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults()),
+                credential.getResponse().getSignature()
+        );
+        authenticationData = webAuthnAuthenticationManager.parse(authenticationRequest);
+        authenticationParameters = new AuthenticationParameters(
+                new ServerProperty(origin, rpId, challenge, null),
+                credentialRecord,
+                null,
+                true
+        );
+    }
+
+    @Benchmark
+    public AuthenticationData parseAuthenticationResponseJSON() {
+        return webAuthnAuthenticationManager.parse(authenticationResponseJSON);
+    }
+
+    @Benchmark
+    public AuthenticationData parseAuthenticationRequest() {
+        return webAuthnAuthenticationManager.parse(authenticationRequest);
+    }
+
+    @Benchmark
+    public AuthenticationData verifyAuthenticationData() {
+        // the verifier advances the stored counter, so it is rewound to let the same assertion be verified repeatedly
+        credentialRecord.setCounter(storedCounter);
+        return webAuthnAuthenticationManager.verify(authenticationData, authenticationParameters);
+    }
+
+    @Benchmark
+    public AuthenticationData parseAndVerifyAuthenticationRequest() {
+        credentialRecord.setCounter(storedCounter);
+        return webAuthnAuthenticationManager.verify(authenticationRequest, authenticationParameters);
+    }
+
+}
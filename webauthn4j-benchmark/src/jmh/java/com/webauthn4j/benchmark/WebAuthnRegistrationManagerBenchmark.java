@@ -0,0 +1,179 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnRegistrationManager;
+import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.test.authenticator.AuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticator;
+import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.webauthn.*;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.verifier.RegistrationObject;
+import com.webauthn4j.verifier.attestation.statement.AttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.androidkey.AndroidKeyAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.apple.AppleAnonymousAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.none.NoneAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.packed.PackedAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.tpm.TPMAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.u2f.FIDOU2FAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.trustworthiness.certpath.CertPathTrustworthinessVerifier;
+import com.webauthn4j.verifier.attestation.trustworthiness.certpath.DefaultCertPathTrustworthinessVerifier;
+import com.webauthn4j.verifier.attestation.trustworthiness.certpath.NullCertPathTrustworthinessVerifier;
+import com.webauthn4j.verifier.attestation.trustworthiness.self.DefaultSelfAttestationTrustworthinessVerifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link WebAuthnRegistrationManager} parse and verify per attestation statement format.
+ * Attestations are generated by the authenticator emulators in webauthn4j-test, except for "apple",
+ * which uses a captured Apple anonymous attestation as there is no emulator for it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WebAuthnRegistrationManagerBenchmark {
+
+    @Param({"none", "packed", "tpm", "android-key", "fido-u2f", "apple"})
+    private String format;
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
+
+    private WebAuthnRegistrationManager webAuthnRegistrationManager;
+    private RegistrationRequest registrationRequest;
+    private RegistrationData registrationData;
+    private RegistrationParameters registrationParameters;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (format) {
+            case "none":
+                setupWithEmulator(new NoneAttestationStatementVerifier(), new NullCertPathTrustworthinessVerifier(),
+                        new WebAuthnAuthenticatorAdaptor(new NoneAttestationAuthenticator()), true);
+                break;
+            case "packed":
+                setupWithEmulator(new PackedAttestationStatementVerifier(), new DefaultCertPathTrustworthinessVerifier(TestAttestationUtil.createTrustAnchorRepositoryWith3tierTestRootCACertificate()),
+                        new WebAuthnAuthenticatorAdaptor(new PackedAuthenticator()), true);
+                break;
+            case "tpm":
+                setupWithEmulator(new TPMAttestationStatementVerifier(), new DefaultCertPathTrustworthinessVerifier(TestAttestationUtil.createTrustAnchorRepositoryWith3tierTestRootCACertificate()),
+                        new WebAuthnAuthenticatorAdaptor(new TPMAuthenticator()), true);
+                break;
+            case "android-key":
+                setupWithEmulator(new AndroidKeyAttestationStatementVerifier(), new DefaultCertPathTrustworthinessVerifier(TestAttestationUtil.createTrustAnchorRepositoryWith3tierTestRootCACertificate()),
+                        new WebAuthnAuthenticatorAdaptor(new AndroidKeyAuthenticator()), true);
+                break;
+            case "fido-u2f":
+                setupWithEmulator(new FIDOU2FAttestationStatementVerifier(), new DefaultCertPathTrustworthinessVerifier(TestAttestationUtil.createTrustAnchorRepositoryWith2tierTestRootCACertificate()),
+                        new FIDOU2FAuthenticatorAdaptor(new FIDOU2FAuthenticator()), false);
+                break;
+            case "apple":
+                setupWithAppleAnonymousAttestation();
+                break;
+            default:
+                throw new IllegalArgumentException(String.format("Unknown attestation statement format: %s", format));
+        }
+        registrationData = webAuthnRegistrationManager.parse(registrationRequest);
+    }
+
+    @Benchmark
+    public RegistrationData parseRegistrationRequest() {
+        return webAuthnRegistrationManager.parse(registrationRequest);
+    }
+
+    @Benchmark
+    public RegistrationData verifyRegistrationData() {
+        return webAuthnRegistrationManager.verify(registrationData, registrationParameters);
+    }
+
+    @Benchmark
+    public RegistrationData parseAndVerifyRegistrationRequest() {
+        return webAuthnRegistrationManager.verify(registrationRequest, registrationParameters);
+    }
+
+    private void setupWithEmulator(AttestationStatementVerifier attestationStatementVerifier,
+                                   CertPathTrustworthinessVerifier certPathTrustworthinessVerifier,
+                                   AuthenticatorAdaptor authenticatorAdaptor,
+                                   boolean userVerificationRequired) {
+        webAuthnRegistrationManager = new WebAuthnRegistrationManager(
+                Collections.singletonList(attestationStatementVerifier),
+                certPathTrustworthinessVerifier,
+                new DefaultSelfAttestationTrustworthinessVerifier(),
+                objectConverter
+        );
+
+        Origin origin = new Origin("https://example.com");
+        ServerProperty serverProperty = new ServerProperty(origin, "example.com", new DefaultChallenge(), null);
+        UserVerificationRequirement userVerificationRequirement = userVerificationRequired ? UserVerificationRequirement.REQUIRED : UserVerificationRequirement.PREFERRED;
+        PublicKeyCredentialCreationOptions credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(serverProperty.getRpId(), "example.com"),
+                new PublicKeyCredentialUserEntity(new byte[32], "username", "displayName"),
+                serverProperty.getChallenge(),
+                Collections.singletonList(new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256)),
+                null,
+                Collections.emptyList(),
+                new AuthenticatorSelectionCriteria(AuthenticatorAttachment.CROSS_PLATFORM, userVerificationRequired, userVerificationRequirement),
+                AttestationConveyancePreference.DIRECT,
+                new AuthenticationExtensionsClientInputs<>()
+        );
+        ClientPlatform clientPlatform = new ClientPlatform(origin, authenticatorAdaptor);
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> credential = clientPlatform.create(credentialCreationOptions);
+
+        registrationRequest = new RegistrationRequest(
+                credential.getResponse().getAttestationObject(),
+                credential.getResponse().getClientDataJSON(),
+                authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults()),
+                Collections.emptySet()
+        );
+        registrationParameters = new RegistrationParameters(serverProperty, null, userVerificationRequired, true);
+    }
+
+    private void setupWithAppleAnonymousAttestation() {
+        // The captured attestation certificate has already expired, so certificate path verification is skipped.
+        webAuthnRegistrationManager = new WebAuthnRegistrationManager(
+                Collections.singletonList(new AppleAnonymousAttestationStatementVerifier()),
+                new NullCertPathTrustworthinessVerifier(),
+                new DefaultSelfAttestationTrustworthinessVerifier(),
+                objectConverter
+        );
+
+        RegistrationObject registrationObject = TestDataUtil.createRegistrationObjectWithAppleAttestation();
+        registrationRequest = new RegistrationRequest(
+                registrationObject.getAttestationObjectBytes(),
+                registrationObject.getCollectedClientDataBytes(),
+                Collections.emptySet()
+        );
+        registrationParameters = new RegistrationParameters(registrationObject.getServerProperty(), null, false, true);
+    }
+
+}
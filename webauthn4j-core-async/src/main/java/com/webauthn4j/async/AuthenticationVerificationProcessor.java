@@ -0,0 +1,354 @@
+package com.webauthn4j.async;
+
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticationParameters;
+import com.webauthn4j.data.AuthenticationRequest;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CompletionStageUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow.Processor} verifying a stream of authentication requests with {@link WebAuthnAuthenticationAsyncManager}.
+ * <p>
+ * At most {@code parallelism} items are held at a time, counting items requested from upstream, items being verified
+ * and results waiting for downstream demand, so a slow subscriber throttles the publisher instead of filling a queue.
+ * Upstream demand is replenished in chunks of {@code batchSize}. Requests are parsed on the executor in batches of up to
+ * {@code batchSize} items; the verification of each parsed item continues asynchronously, and the signature verification
+ * step runs on the executor set by {@link WebAuthnAuthenticationAsyncManager#setExecutor(Executor)} if any.
+ * <p>
+ * A failed verification is emitted as a {@link Result} holding the exception; it does not terminate the stream.
+ * Results are emitted in the order of the items when {@code ordered} is true, and in completion order otherwise.
+ * Only a single subscriber is supported.
+ */
+public class AuthenticationVerificationProcessor implements Flow.Processor<AuthenticationVerificationProcessor.Item, AuthenticationVerificationProcessor.Result> {
+
+    private final WebAuthnAuthenticationAsyncManager webAuthnAuthenticationAsyncManager;
+    private final Executor executor;
+    private final int parallelism;
+    private final int batchSize;
+    private final boolean ordered;
+
+    private final Queue<Slot> pendingSlots = new ConcurrentLinkedQueue<>();
+    private final Queue<Slot> outputSlots = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean parseScheduled = new AtomicBoolean();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super Result> downstream;
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile Throwable invalidRequestError;
+    private volatile boolean cancelled;
+    private boolean terminated;
+    private int consumed;
+
+    public AuthenticationVerificationProcessor(
+            @NotNull WebAuthnAuthenticationAsyncManager webAuthnAuthenticationAsyncManager,
+            @NotNull Executor executor,
+            int parallelism,
+            int batchSize,
+            boolean ordered) {
+        AssertUtil.notNull(webAuthnAuthenticationAsyncManager, "webAuthnAuthenticationAsyncManager must not be null");
+        AssertUtil.notNull(executor, "executor must not be null");
+        AssertUtil.isTrue(parallelism > 0, "parallelism must be positive");
+        AssertUtil.isTrue(batchSize > 0 && batchSize <= parallelism, "batchSize must be positive and not greater than parallelism");
+        this.webAuthnAuthenticationAsyncManager = webAuthnAuthenticationAsyncManager;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.ordered = ordered;
+    }
+
+    public AuthenticationVerificationProcessor(@NotNull WebAuthnAuthenticationAsyncManager webAuthnAuthenticationAsyncManager, int parallelism) {
+        this(webAuthnAuthenticationAsyncManager, ForkJoinPool.commonPool(), parallelism, Math.max(1, parallelism / 4), true);
+    }
+
+    @Override
+    public void subscribe(@NotNull Flow.Subscriber<? super Result> subscriber) {
+        AssertUtil.notNull(subscriber, "subscriber must not be null");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    // nop
+                }
+
+                @Override
+                public void cancel() {
+                    // nop
+                }
+            });
+            subscriber.onError(new IllegalStateException("AuthenticationVerificationProcessor supports only a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        downstream = subscriber;
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(@NotNull Flow.Subscription subscription) {
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        if (cancelled) {
+            subscription.cancel();
+            return;
+        }
+        subscription.request(parallelism);
+    }
+
+    @Override
+    public void onNext(@NotNull Item item) {
+        if (done || cancelled) {
+            return;
+        }
+        Slot slot = new Slot(item);
+        activeCount.incrementAndGet();
+        if (ordered) {
+            outputSlots.add(slot);
+        }
+        pendingSlots.add(slot);
+        if (parseScheduled.compareAndSet(false, true)) {
+            executor.execute(this::parseBatch);
+        }
+    }
+
+    @Override
+    public void onError(@NotNull Throwable throwable) {
+        if (done) {
+            return;
+        }
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    private void parseBatch() {
+        for (int i = 0; i < batchSize; i++) {
+            Slot slot = pendingSlots.poll();
+            if (slot == null) {
+                break;
+            }
+            Item item = slot.item;
+            CompletionStageUtil.compose(() -> webAuthnAuthenticationAsyncManager.parse(item.getAuthenticationRequest()))
+                    .thenCompose(authenticationData -> webAuthnAuthenticationAsyncManager.verify(authenticationData, item.getAuthenticationParameters()))
+                    .whenComplete((authenticationData, throwable) -> complete(slot, authenticationData, throwable));
+        }
+        parseScheduled.set(false);
+        // items may have arrived after the last poll; pick them up in a new batch
+        if (!pendingSlots.isEmpty() && parseScheduled.compareAndSet(false, true)) {
+            executor.execute(this::parseBatch);
+        }
+    }
+
+    private void complete(Slot slot, @Nullable AuthenticationData authenticationData, @Nullable Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        slot.result = new Result(slot.item, authenticationData, cause);
+        if (!ordered) {
+            outputSlots.add(slot);
+        }
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super Result> subscriber = downstream;
+            if (subscriber != null && !terminated) {
+                long r = requested.get();
+                long emitted = 0;
+                while (emitted != r && !cancelled) {
+                    Slot slot = outputSlots.peek();
+                    if (slot == null || slot.result == null) {
+                        break;
+                    }
+                    outputSlots.poll();
+                    activeCount.decrementAndGet();
+                    subscriber.onNext(slot.result);
+                    emitted++;
+                }
+                if (cancelled) {
+                    pendingSlots.clear();
+                    outputSlots.clear();
+                    terminated = true;
+                    // a non-positive request cancels the subscription and is signalled as the only terminal signal
+                    Throwable throwable = invalidRequestError;
+                    if (throwable != null) {
+                        subscriber.onError(throwable);
+                    }
+                }
+                else {
+                    if (emitted != 0) {
+                        if (r != Long.MAX_VALUE) {
+                            requested.addAndGet(-emitted);
+                        }
+                        replenish(emitted);
+                    }
+                    if (done && activeCount.get() == 0) {
+                        terminated = true;
+                        Throwable throwable = error;
+                        if (throwable == null) {
+                            subscriber.onComplete();
+                        }
+                        else {
+                            subscriber.onError(throwable);
+                        }
+                    }
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void replenish(long emitted) {
+        if (done) {
+            return;
+        }
+        consumed += (int) emitted;
+        if (consumed >= batchSize) {
+            int n = consumed;
+            consumed = 0;
+            upstream.request(n);
+        }
+    }
+
+    private void cancelUpstream() {
+        Flow.Subscription subscription = upstream;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (!cancelled) {
+                    invalidRequestError = new IllegalArgumentException("non-positive request: " + n);
+                }
+                cancel();
+                return;
+            }
+            requested.accumulateAndGet(n, (current, added) -> {
+                long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            cancelUpstream();
+            drain();
+        }
+    }
+
+    private static class Slot {
+        private final Item item;
+        private volatile Result result;
+
+        private Slot(Item item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * An authentication request with the parameters to verify it with.
+     */
+    public static class Item {
+
+        private final AuthenticationRequest authenticationRequest;
+        private final AuthenticationParameters authenticationParameters;
+
+        public Item(@NotNull AuthenticationRequest authenticationRequest, @NotNull AuthenticationParameters authenticationParameters) {
+            AssertUtil.notNull(authenticationRequest, "authenticationRequest must not be null");
+            AssertUtil.notNull(authenticationParameters, "authenticationParameters must not be null");
+            this.authenticationRequest = authenticationRequest;
+            this.authenticationParameters = authenticationParameters;
+        }
+
+        public @NotNull AuthenticationRequest getAuthenticationRequest() {
+            return authenticationRequest;
+        }
+
+        public @NotNull AuthenticationParameters getAuthenticationParameters() {
+            return authenticationParameters;
+        }
+    }
+
+    /**
+     * Outcome of the verification of an {@link Item}: either the verified {@link AuthenticationData} or the exception
+     * the verification failed with.
+     */
+    public static class Result {
+
+        private final Item item;
+        private final AuthenticationData authenticationData;
+        private final Throwable exception;
+
+        public Result(@NotNull Item item, @Nullable AuthenticationData authenticationData, @Nullable Throwable exception) {
+            this.item = item;
+            this.authenticationData = authenticationData;
+            this.exception = exception;
+        }
+
+        public @NotNull Item getItem() {
+            return item;
+        }
+
+        public @Nullable AuthenticationData getAuthenticationData() {
+            return authenticationData;
+        }
+
+        public @Nullable Throwable getException() {
+            return exception;
+        }
+
+        public boolean isSuccess() {
+            return exception == null;
+        }
+    }
+}
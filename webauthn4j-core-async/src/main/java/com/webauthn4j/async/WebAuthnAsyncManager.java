@@ -22,11 +22,13 @@ import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.*;
 import com.webauthn4j.verifier.exception.VerificationException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class WebAuthnAsyncManager {
     // ~ Instance fields
@@ -184,4 +186,30 @@ public class WebAuthnAsyncManager {
         return this.webAuthnAuthenticationAsyncManager.getAuthenticationDataAsyncVerifier();
     }
 
+    /**
+     * Sets the executor to run CPU-bound verification steps of both registration and authentication on.
+     *
+     * @param executor executor, or null to run the steps inline
+     */
+    public void setExecutor(@Nullable Executor executor) {
+        this.webAuthnRegistrationAsyncManager.setExecutor(executor);
+        this.webAuthnAuthenticationAsyncManager.setExecutor(executor);
+    }
+
+    public boolean isVirtualThreadEnabled() {
+        return this.webAuthnRegistrationAsyncManager.isVirtualThreadEnabled() && this.webAuthnAuthenticationAsyncManager.isVirtualThreadEnabled();
+    }
+
+    /**
+     * Enables running each registration and authentication verification on its own virtual thread (Java 21 or later).
+     *
+     * @param virtualThreadEnabled true to enable virtual thread mode
+     * @throws UnsupportedOperationException if virtual threads are not available on the running JVM
+     * @see WebAuthnRegistrationAsyncManager#setVirtualThreadEnabled(boolean)
+     */
+    public void setVirtualThreadEnabled(boolean virtualThreadEnabled) {
+        this.webAuthnRegistrationAsyncManager.setVirtualThreadEnabled(virtualThreadEnabled);
+        this.webAuthnAuthenticationAsyncManager.setVirtualThreadEnabled(virtualThreadEnabled);
+    }
+
 }
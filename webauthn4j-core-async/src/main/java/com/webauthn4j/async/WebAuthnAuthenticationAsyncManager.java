@@ -1,6 +1,7 @@
 package com.webauthn4j.async;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.webauthn4j.async.util.internal.VirtualThreadUtil;
 import com.webauthn4j.async.verifier.AuthenticationDataAsyncVerifier;
 import com.webauthn4j.async.verifier.CustomAuthenticationAsyncVerifier;
 import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
@@ -18,12 +19,15 @@ import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.CompletionStageUtil;
 import com.webauthn4j.verifier.exception.VerificationException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class WebAuthnAuthenticationAsyncManager {
 
@@ -39,6 +43,8 @@ public class WebAuthnAuthenticationAsyncManager {
 
     private final ObjectConverter objectConverter;
 
+    private volatile boolean virtualThreadEnabled = false;
+
     public WebAuthnAuthenticationAsyncManager(
             @NotNull List<CustomAuthenticationAsyncVerifier> customAuthenticationAsyncVerifiers,
             @NotNull ObjectConverter objectConverter) {
@@ -143,10 +149,52 @@ public class WebAuthnAuthenticationAsyncManager {
             @NotNull AuthenticationData authenticationData,
             @NotNull AuthenticationParameters authenticationParameters) {
         logger.trace("Verify: {}, {}", authenticationData, authenticationParameters);
+        if (virtualThreadEnabled) {
+            return CompletableFuture.supplyAsync(() -> authenticationDataAsyncVerifier.verify(authenticationData, authenticationParameters).toCompletableFuture().join(), VirtualThreadUtil.getExecutor());
+        }
         return authenticationDataAsyncVerifier.verify(authenticationData, authenticationParameters);
     }
 
     public @NotNull AuthenticationDataAsyncVerifier getAuthenticationDataAsyncVerifier() {
         return authenticationDataAsyncVerifier;
     }
+
+    public @Nullable Executor getExecutor() {
+        return authenticationDataAsyncVerifier.getExecutor();
+    }
+
+    /**
+     * Sets the executor to run CPU-bound verification steps on, so that they don't block the thread completing
+     * asynchronous lookups, like an event loop.
+     *
+     * @param executor executor, or null to run the steps inline
+     */
+    public void setExecutor(@Nullable Executor executor) {
+        authenticationDataAsyncVerifier.setExecutor(executor);
+    }
+
+    public boolean isVirtualThreadEnabled() {
+        return virtualThreadEnabled;
+    }
+
+    /**
+     * Enables running each authentication verification on its own virtual thread. Blocking work of the ceremony, such as
+     * a blocking lookup in a custom component, then parks the virtual thread instead of blocking the caller's or an I/O
+     * thread, and the returned {@link CompletionStage} is completed by the virtual thread.
+     * <p>
+     * CPU-bound steps run inline on the virtual thread unless an executor is set by {@link #setExecutor(Executor)}.
+     * As a virtual thread serves a single ceremony, the default thread-local pool of signature and message digest
+     * instances is not reused across ceremonies, which makes this mode slower than the plain asynchronous path when
+     * nothing blocks. Set an executor backed by platform threads to keep signature verification on pooled instances.
+     *
+     * @param virtualThreadEnabled true to enable virtual thread mode
+     * @throws UnsupportedOperationException if virtual threads are not available on the running JVM (before Java 21)
+     */
+    public void setVirtualThreadEnabled(boolean virtualThreadEnabled) {
+        if (virtualThreadEnabled) {
+            // fail fast on JVMs without virtual threads
+            VirtualThreadUtil.getExecutor();
+        }
+        this.virtualThreadEnabled = virtualThreadEnabled;
+    }
 }
@@ -1,6 +1,7 @@
 package com.webauthn4j.async;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.webauthn4j.async.util.internal.VirtualThreadUtil;
 import com.webauthn4j.async.verifier.CustomRegistrationAsyncVerifier;
 import com.webauthn4j.async.verifier.RegistrationDataAsyncVerifier;
 import com.webauthn4j.async.verifier.attestation.statement.AttestationStatementAsyncVerifier;
@@ -28,6 +29,7 @@ import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.CompletionStageUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,7 +37,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class WebAuthnRegistrationAsyncManager {
 
@@ -51,6 +55,8 @@ public class WebAuthnRegistrationAsyncManager {
     private final RegistrationDataAsyncVerifier registrationDataAsyncVerifier;
     private final ObjectConverter objectConverter;
 
+    private volatile boolean virtualThreadEnabled = false;
+
     public WebAuthnRegistrationAsyncManager(
             @NotNull List<AttestationStatementAsyncVerifier> attestationStatementAsyncVerifiers,
             @NotNull CertPathTrustworthinessAsyncVerifier certPathTrustworthinessAsyncVerifier,
@@ -217,6 +223,9 @@ public class WebAuthnRegistrationAsyncManager {
     @SuppressWarnings("squid:S1130")
     public @NotNull CompletionStage<RegistrationData> verify(@NotNull RegistrationData registrationData, @NotNull RegistrationParameters registrationParameters) {
         logger.trace("Verify: {}, {}", registrationData, registrationParameters);
+        if (virtualThreadEnabled) {
+            return CompletableFuture.supplyAsync(() -> registrationDataAsyncVerifier.verify(registrationData, registrationParameters).toCompletableFuture().join(), VirtualThreadUtil.getExecutor());
+        }
         return registrationDataAsyncVerifier.verify(registrationData, registrationParameters);
     }
 
@@ -224,4 +233,43 @@ public class WebAuthnRegistrationAsyncManager {
         return registrationDataAsyncVerifier;
     }
 
+    public @Nullable Executor getExecutor() {
+        return registrationDataAsyncVerifier.getExecutor();
+    }
+
+    /**
+     * Sets the executor to run CPU-bound verification steps on, so that they don't block the thread completing
+     * asynchronous lookups, like an event loop.
+     *
+     * @param executor executor, or null to run the steps inline
+     */
+    public void setExecutor(@Nullable Executor executor) {
+        registrationDataAsyncVerifier.setExecutor(executor);
+    }
+
+    public boolean isVirtualThreadEnabled() {
+        return virtualThreadEnabled;
+    }
+
+    /**
+     * Enables running each registration verification on its own virtual thread. Blocking work of the ceremony, such as
+     * a blocking lookup in a custom component, then parks the virtual thread instead of blocking the caller's or an I/O
+     * thread, and the returned {@link CompletionStage} is completed by the virtual thread.
+     * <p>
+     * CPU-bound steps run inline on the virtual thread unless an executor is set by {@link #setExecutor(Executor)}.
+     * As a virtual thread serves a single ceremony, the default thread-local pool of signature and message digest
+     * instances is not reused across ceremonies, which makes this mode slower than the plain asynchronous path when
+     * nothing blocks. Set an executor backed by platform threads to keep signature verification on pooled instances.
+     *
+     * @param virtualThreadEnabled true to enable virtual thread mode
+     * @throws UnsupportedOperationException if virtual threads are not available on the running JVM (before Java 21)
+     */
+    public void setVirtualThreadEnabled(boolean virtualThreadEnabled) {
+        if (virtualThreadEnabled) {
+            // fail fast on JVMs without virtual threads
+            VirtualThreadUtil.getExecutor();
+        }
+        this.virtualThreadEnabled = virtualThreadEnabled;
+    }
+
 }
@@ -2,18 +2,21 @@ package com.webauthn4j.async.util.internal;
 
 import com.webauthn4j.util.CompletionStageUtil;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.CompletionHandler;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 public class FileAsyncUtil {
 
+    // same limit as java.nio.file.Files#readAllBytes
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
     private FileAsyncUtil(){}
 
     public static CompletionStage<byte[]> load(Path path){
@@ -21,12 +24,15 @@ public class FileAsyncUtil {
     }
 
 
+    /**
+     * Reads a whole file into an array sized from the file length. The read operations fill the result array directly,
+     * so a file is usually loaded in a single operation without intermediate copies.
+     */
     private static class FileLoader{
 
         private final Path path;
-        private final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
         private final CompletableFuture<byte[]> completableFuture = new CompletableFuture<>();
-        private int position = 0;
+        private ByteBuffer buffer;
 
         private FileLoader(Path path){
             this.path = path;
@@ -36,6 +42,13 @@ public class FileAsyncUtil {
             return CompletionStageUtil.compose(()->{
                 try{
                     AsynchronousFileChannel asynchronousFileChannel = AsynchronousFileChannel.open(path);
+                    try{
+                        buffer = ByteBuffer.allocate(toBufferSize(asynchronousFileChannel.size()));
+                    }
+                    catch (IOException | RuntimeException e){
+                        asynchronousFileChannel.close();
+                        throw e;
+                    }
                     read(asynchronousFileChannel);
                     return completableFuture.whenComplete((bytes, e)-> {
                         try {
@@ -52,21 +65,33 @@ public class FileAsyncUtil {
         }
 
         private void read(AsynchronousFileChannel asynchronousFileChannel){
-            int bufferSize = 1024;
-            ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
-            asynchronousFileChannel.read(buffer, position, buffer, new CompletionHandler<>() {
+            asynchronousFileChannel.read(buffer, buffer.position(), buffer, new CompletionHandler<>() {
                 @Override
                 public void completed(Integer result, ByteBuffer attachment) {
                     try{
-                        byteArrayOutputStream.write(attachment.array(), 0, result);
-                        position += result;
-                        if(result == bufferSize){
+                        if(result == -1){
+                            // the file shrank since its size was read
+                            completableFuture.complete(Arrays.copyOf(attachment.array(), attachment.position()));
+                        }
+                        else if(attachment.hasRemaining()){
                             read(asynchronousFileChannel);
                         }
                         else {
-                            completableFuture.complete(byteArrayOutputStream.toByteArray());
+                            long size = asynchronousFileChannel.size();
+                            if(size > attachment.capacity()){
+                                // the file grew since its size was read
+                                buffer = ByteBuffer.wrap(Arrays.copyOf(attachment.array(), toBufferSize(size)));
+                                buffer.position(attachment.capacity());
+                                read(asynchronousFileChannel);
+                            }
+                            else {
+                                completableFuture.complete(attachment.array());
+                            }
                         }
                     }
+                    catch (IOException e){
+                        completableFuture.completeExceptionally(new UncheckedIOException(e));
+                    }
                     catch (RuntimeException e){
                         completableFuture.completeExceptionally(e);
                     }
@@ -77,6 +102,13 @@ public class FileAsyncUtil {
                 }
             });
         }
+
+        private int toBufferSize(long size){
+            if(size > MAX_BUFFER_SIZE){
+                throw new OutOfMemoryError("Required array size too large: " + path);
+            }
+            return (int) size;
+        }
     }
 
 }
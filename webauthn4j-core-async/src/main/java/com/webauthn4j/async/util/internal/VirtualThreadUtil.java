@@ -0,0 +1,50 @@
+package com.webauthn4j.async.util.internal;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Provides a virtual-thread-per-task executor on Java 21 or later. The executor is looked up reflectively,
+ * as this module is compiled for Java 11.
+ */
+public class VirtualThreadUtil {
+
+    private VirtualThreadUtil(){}
+
+    public static boolean isSupported(){
+        return Holder.executor != null;
+    }
+
+    /**
+     * Returns the shared virtual-thread-per-task executor.
+     *
+     * @return executor which starts a new virtual thread for each task
+     * @throws UnsupportedOperationException if virtual threads are not available on the running JVM
+     */
+    public static ExecutorService getExecutor(){
+        if(Holder.executor == null){
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        return Holder.executor;
+    }
+
+    private static class Holder{
+        private static final ExecutorService executor = createExecutor();
+
+        private static ExecutorService createExecutor(){
+            try{
+                Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) method.invoke(null);
+            }
+            catch (NoSuchMethodException | IllegalAccessException e){
+                return null;
+            }
+            catch (InvocationTargetException e){
+                // preview API on Java 19 and 20 throws UnsupportedOperationException unless preview features are enabled
+                return null;
+            }
+        }
+    }
+}
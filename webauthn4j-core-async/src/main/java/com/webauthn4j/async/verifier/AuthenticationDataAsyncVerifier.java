@@ -18,13 +18,15 @@ import com.webauthn4j.verifier.exception.ConstraintViolationException;
 import com.webauthn4j.verifier.exception.InconsistentClientDataTypeException;
 import com.webauthn4j.verifier.internal.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class AuthenticationDataAsyncVerifier {
 
@@ -38,6 +40,9 @@ public class AuthenticationDataAsyncVerifier {
     private DefaultMaliciousCounterValueAsyncHandler maliciousCounterValueAsyncHandler = new DefaultMaliciousCounterValueAsyncHandler();
 
     private boolean crossOriginAllowed = false;
+    private Executor executor = null;
+    private boolean customAsyncVerifiersConcurrent = false;
+    private Duration customAsyncVerifierTimeout = null;
 
     public AuthenticationDataAsyncVerifier(@NotNull List<CustomAuthenticationAsyncVerifier> customAuthenticationAsyncVerifiers) {
         AssertUtil.notNull(customAuthenticationAsyncVerifiers, "customAuthenticationAsyncVerifiers must not be null");
@@ -83,10 +88,15 @@ public class AuthenticationDataAsyncVerifier {
         }
 
         public CompletionStage<AuthenticationData> execute(){
-            return execStep1toStep14()
+            CompletionStage<Void> step21 = execStep1toStep14()
                     .thenCompose(unused -> execStep15toStep20())
-                    .thenCompose(unused -> execStep21())
-                    .thenCompose(unused -> execStep22toStep24())
+                    .thenCompose(unused -> execStep21());
+            // signature verification is CPU-bound, so it is offloaded to the executor if configured
+            Executor currentExecutor = executor;
+            CompletionStage<Void> step24 = currentExecutor == null ?
+                    step21.thenCompose(unused -> execStep22toStep24()) :
+                    step21.thenComposeAsync(unused -> execStep22toStep24(), currentExecutor);
+            return step24
                     .thenCompose(unused -> execStep25toStep27())
                     .thenApply(unused -> authenticationData);
         }
@@ -308,20 +318,12 @@ public class AuthenticationDataAsyncVerifier {
             //spec| If the Relying Party performs additional security checks beyond these WebAuthn authentication ceremony steps, the above state updates SHOULD be deferred to after those additional checks are completed successfully.
             //      (This step is out of WebAuthn4J scope. It's caller's responsibility.)
 
-            for (CustomAuthenticationAsyncVerifier customAuthenticationAsyncVerifier : customAuthenticationAsyncVerifiers) {
-                customAuthenticationAsyncVerifier.verify(authenticationObject);
-            }
-            Iterator<CustomAuthenticationAsyncVerifier> iterator = customAuthenticationAsyncVerifiers.iterator();
-            CompletableFuture<Void> completableFuture = CompletableFuture.completedFuture(null);
-            while(iterator.hasNext()){
-                CustomAuthenticationAsyncVerifier customAuthenticationAsyncVerifier = iterator.next();
-                completableFuture = completableFuture.thenAccept(unused -> customAuthenticationAsyncVerifier.verify(authenticationObject));
-            }
-
             //spec| Step27
             //spec| If all the above steps are successful, continue with the authentication ceremony as appropriate. Otherwise, fail the authentication ceremony.
 
-            return CompletableFuture.completedFuture(null);
+            return CustomAsyncVerifierRunner.run(customAuthenticationAsyncVerifiers,
+                    customAuthenticationAsyncVerifier -> customAuthenticationAsyncVerifier.verify(authenticationObject),
+                    customAsyncVerifiersConcurrent, customAsyncVerifierTimeout);
         }
 
     }
@@ -346,6 +348,47 @@ public class AuthenticationDataAsyncVerifier {
         return customAuthenticationAsyncVerifiers;
     }
 
+    public @Nullable Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor to run CPU-bound verification steps (assertion signature verification) on.
+     * Without it, these steps run on the thread completing the preceding step, which may be an I/O thread.
+     *
+     * @param executor executor, or null to run the steps inline
+     */
+    public void setExecutor(@Nullable Executor executor) {
+        this.executor = executor;
+    }
+
+    public boolean isCustomAsyncVerifiersConcurrent() {
+        return customAsyncVerifiersConcurrent;
+    }
+
+    /**
+     * Sets whether custom async verifiers are run concurrently. By default, they run one after another in list order,
+     * each starting after the previous one succeeded. Concurrent verifiers must not depend on each other.
+     *
+     * @param customAsyncVerifiersConcurrent true to start all custom async verifiers at once
+     */
+    public void setCustomAsyncVerifiersConcurrent(boolean customAsyncVerifiersConcurrent) {
+        this.customAsyncVerifiersConcurrent = customAsyncVerifiersConcurrent;
+    }
+
+    public @Nullable Duration getCustomAsyncVerifierTimeout() {
+        return customAsyncVerifierTimeout;
+    }
+
+    /**
+     * Sets the time each custom async verifier may take. A verifier exceeding it fails the ceremony with {@link java.util.concurrent.TimeoutException}.
+     *
+     * @param customAsyncVerifierTimeout timeout, or null to wait indefinitely
+     */
+    public void setCustomAsyncVerifierTimeout(@Nullable Duration customAsyncVerifierTimeout) {
+        this.customAsyncVerifierTimeout = customAsyncVerifierTimeout;
+    }
+
     public boolean isCrossOriginAllowed() {
         return crossOriginAllowed;
     }
@@ -0,0 +1,69 @@
+package com.webauthn4j.async.verifier;
+
+import com.webauthn4j.util.CompletionStageUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Composes the stages returned by custom async verifiers into a single stage, either one after another or concurrently.
+ */
+class CustomAsyncVerifierRunner {
+
+    private CustomAsyncVerifierRunner() {
+    }
+
+    /**
+     * Runs the verifiers and returns a stage completing when all of them succeeded, or exceptionally with the first failure.
+     *
+     * @param verifiers  verifiers to run
+     * @param invocation invokes a verifier
+     * @param concurrent true to start all verifiers at once, false to start each after the previous one succeeded
+     * @param timeout    timeout for each verifier, or null to wait indefinitely. An expired verifier fails with {@link java.util.concurrent.TimeoutException}
+     * @param <V>        verifier type
+     * @return stage completing when all verifiers succeeded
+     */
+    static <V> @NotNull CompletionStage<Void> run(@NotNull List<V> verifiers, @NotNull Function<V, CompletionStage<Void>> invocation, boolean concurrent, @Nullable Duration timeout) {
+        if (verifiers.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!concurrent) {
+            CompletionStage<Void> stage = CompletableFuture.completedFuture(null);
+            for (V verifier : verifiers) {
+                stage = stage.thenCompose(unused -> invoke(verifier, invocation, timeout));
+            }
+            return stage;
+        }
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(verifiers.size());
+        for (V verifier : verifiers) {
+            invoke(verifier, invocation, timeout).whenComplete((unused, throwable) -> {
+                if (throwable != null) {
+                    // fail fast: don't wait for the other verifiers once one of them failed
+                    result.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+                }
+                else if (remaining.decrementAndGet() == 0) {
+                    result.complete(null);
+                }
+            });
+        }
+        return result;
+    }
+
+    private static <V> CompletionStage<Void> invoke(V verifier, Function<V, CompletionStage<Void>> invocation, @Nullable Duration timeout) {
+        CompletionStage<Void> stage = CompletionStageUtil.compose(() -> invocation.apply(verifier));
+        if (timeout == null) {
+            return stage;
+        }
+        // copy so that the timeout doesn't complete the verifier's own future
+        return stage.toCompletableFuture().copy().orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+}
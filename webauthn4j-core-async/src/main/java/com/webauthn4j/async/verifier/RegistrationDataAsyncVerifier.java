@@ -24,12 +24,15 @@ import com.webauthn4j.verifier.exception.ConstraintViolationException;
 import com.webauthn4j.verifier.exception.InconsistentClientDataTypeException;
 import com.webauthn4j.verifier.internal.*;
 
-import java.util.Iterator;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 public class RegistrationDataAsyncVerifier {
 
@@ -47,6 +50,9 @@ public class RegistrationDataAsyncVerifier {
     private OriginAsyncVerifier originVerifier = new OriginAsyncVerifierImpl();
 
     private int maxCredentialIdLength = DEFAULT_MAX_CREDENTIAL_ID_LENGTH;
+    private Executor executor = null;
+    private boolean customAsyncVerifiersConcurrent = false;
+    private Duration customAsyncVerifierTimeout = null;
 
     public RegistrationDataAsyncVerifier(
             List<AttestationStatementAsyncVerifier> attestationStatementAsyncVerifiers,
@@ -89,6 +95,47 @@ public class RegistrationDataAsyncVerifier {
         this.maxCredentialIdLength = maxCredentialIdLength;
     }
 
+    public @Nullable Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor to run CPU-bound verification steps (attestation statement and certificate path verification) on.
+     * Without it, these steps run on the thread completing the preceding step, which may be an I/O thread.
+     *
+     * @param executor executor, or null to run the steps inline
+     */
+    public void setExecutor(@Nullable Executor executor) {
+        this.executor = executor;
+    }
+
+    public boolean isCustomAsyncVerifiersConcurrent() {
+        return customAsyncVerifiersConcurrent;
+    }
+
+    /**
+     * Sets whether custom async verifiers are run concurrently. By default, they run one after another in list order,
+     * each starting after the previous one succeeded. Concurrent verifiers must not depend on each other.
+     *
+     * @param customAsyncVerifiersConcurrent true to start all custom async verifiers at once
+     */
+    public void setCustomAsyncVerifiersConcurrent(boolean customAsyncVerifiersConcurrent) {
+        this.customAsyncVerifiersConcurrent = customAsyncVerifiersConcurrent;
+    }
+
+    public @Nullable Duration getCustomAsyncVerifierTimeout() {
+        return customAsyncVerifierTimeout;
+    }
+
+    /**
+     * Sets the time each custom async verifier may take. A verifier exceeding it fails the ceremony with {@link java.util.concurrent.TimeoutException}.
+     *
+     * @param customAsyncVerifierTimeout timeout, or null to wait indefinitely
+     */
+    public void setCustomAsyncVerifierTimeout(@Nullable Duration customAsyncVerifierTimeout) {
+        this.customAsyncVerifierTimeout = customAsyncVerifierTimeout;
+    }
+
     private class RegistrationDataVerification{
 
         private final RegistrationData registrationData;
@@ -105,11 +152,16 @@ public class RegistrationDataAsyncVerifier {
         }
 
         public CompletionStage<RegistrationData> execute(){
-            return execStep1toStep8()
+            CompletionStage<Void> step20 = execStep1toStep8()
                     .thenCompose(unused -> this.execStep9())
                     .thenCompose(unused -> this.execStep10toStep19())
-                    .thenCompose(unused -> this.execStep20())
-                    .thenCompose(unused -> this.execStep21toStep24AndStep28())
+                    .thenCompose(unused -> this.execStep20());
+            // attestation verification (signature and certificate path) is CPU-bound, so it is offloaded to the executor if configured
+            Executor currentExecutor = executor;
+            CompletionStage<Void> step28 = currentExecutor == null ?
+                    step20.thenCompose(unused -> this.execStep21toStep24AndStep28()) :
+                    step20.thenComposeAsync(unused -> this.execStep21toStep24AndStep28(), currentExecutor);
+            return step28
                     .thenCompose(unused -> this.execStep25toStep27())
                     .thenApply(unused -> registrationData);
         }
@@ -302,13 +354,9 @@ public class RegistrationDataAsyncVerifier {
 
 
             // verify with custom logic
-            Iterator<CustomRegistrationAsyncVerifier> iterator = customRegistrationAsyncVerifiers.iterator();
-            CompletableFuture<Void> completableFuture = CompletableFuture.completedFuture(null);
-            while(iterator.hasNext()){
-                CustomRegistrationAsyncVerifier customRegistrationAsyncVerifier = iterator.next();
-                completableFuture = completableFuture.thenAccept(unused -> customRegistrationAsyncVerifier.verify(registrationObject));
-            }
-            return CompletableFuture.completedFuture(null);
+            return CustomAsyncVerifierRunner.run(customRegistrationAsyncVerifiers,
+                    customRegistrationAsyncVerifier -> customRegistrationAsyncVerifier.verify(registrationObject),
+                    customAsyncVerifiersConcurrent, customAsyncVerifierTimeout);
         }
     }
 }
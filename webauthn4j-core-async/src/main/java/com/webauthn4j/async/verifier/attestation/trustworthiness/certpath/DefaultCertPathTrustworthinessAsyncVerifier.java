@@ -26,12 +26,15 @@ import com.webauthn4j.util.CompletionStageUtil;
 import com.webauthn4j.verifier.attestation.trustworthiness.certpath.DefaultCertPathTrustworthinessVerifier;
 import com.webauthn4j.verifier.exception.CertificateException;
 import com.webauthn4j.verifier.exception.TrustAnchorNotFoundException;
+import com.webauthn4j.verifier.internal.CertPathValidationCache;
+import com.webauthn4j.verifier.internal.PKIXParametersTemplateCache;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
 import java.time.Instant;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -41,8 +44,11 @@ public class DefaultCertPathTrustworthinessAsyncVerifier implements CertPathTrus
 
     private final TrustAnchorAsyncRepository trustAnchorAsyncRepository;
 
+    private final PKIXParametersTemplateCache pkixParametersTemplateCache = new PKIXParametersTemplateCache();
+
     private boolean fullChainProhibited = false;
     private boolean policyQualifiersRejected = false;
+    private CertPathValidationCache validationCache = null;
 
     public DefaultCertPathTrustworthinessAsyncVerifier(TrustAnchorAsyncRepository trustAnchorAsyncRepository) {
         this.trustAnchorAsyncRepository = trustAnchorAsyncRepository;
@@ -78,7 +84,7 @@ public class DefaultCertPathTrustworthinessAsyncVerifier implements CertPathTrus
         }
 
         CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
-        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
+        PKIXParameters certPathParameters = pkixParametersTemplateCache.get(trustAnchors);
 
         certPathParameters.setPolicyQualifiersRejected(this.policyQualifiersRejected);
         // revocationCheckEnabled flag is intentionally removed from DefaultCerPathTrustworthinessAsyncVerifier
@@ -98,6 +104,19 @@ public class DefaultCertPathTrustworthinessAsyncVerifier implements CertPathTrus
             }
         }
 
+        // or reuse a memoized validation of the same intermediate chain
+        CertPathValidationCache cache = this.validationCache;
+        List<? extends Certificate> certificates = certPath.getCertificates();
+        if (cache != null) {
+            TrustAnchor cachedTrustAnchor = cache.lookup(certificates, trustAnchors, certPathParameters);
+            if (cachedTrustAnchor != null) {
+                if (fullChainProhibited && certificates.contains(cachedTrustAnchor.getTrustedCert())) {
+                    throw new CertificateException("`certpath` must not contain full chain.");
+                }
+                return cachedTrustAnchor;
+            }
+        }
+
         // or verify the certificate chain path
         PKIXCertPathValidatorResult result;
         try {
@@ -110,6 +129,9 @@ public class DefaultCertPathTrustworthinessAsyncVerifier implements CertPathTrus
         if (fullChainProhibited && certPath.getCertificates().contains(result.getTrustAnchor().getTrustedCert())) {
             throw new CertificateException("`certpath` must not contain full chain.");
         }
+        if (cache != null) {
+            cache.put(certificates, trustAnchors, certPathParameters, result.getTrustAnchor());
+        }
         return trustAnchors.stream()
                 .filter(item -> Objects.equals(item, result.getTrustAnchor()))
                 .findFirst().orElseThrow(()-> new IllegalStateException("Matching TrustAnchor is not found."));
@@ -131,5 +153,24 @@ public class DefaultCertPathTrustworthinessAsyncVerifier implements CertPathTrus
         this.policyQualifiersRejected = policyQualifiersRejected;
     }
 
+    public int getValidationCacheMaxEntries() {
+        return validationCache == null ? 0 : validationCache.getMaxEntries();
+    }
+
+    /**
+     * Enables memoization of certificate path validation results. When enabled, attestation certificates issued by
+     * an already validated intermediate chain are verified by checking only the leaf signature and validity.
+     * Trust anchor sets are matched by identity, so the cache only pays off with a repository
+     * which hands out the same set until its source changes.
+     *
+     * @param maxEntries maximum number of memoized chains. 0 disables the cache (default).
+     */
+    public void setValidationCacheMaxEntries(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries must not be negative");
+        }
+        this.validationCache = maxEntries == 0 ? null : new CertPathValidationCache(maxEntries);
+    }
+
 
 }
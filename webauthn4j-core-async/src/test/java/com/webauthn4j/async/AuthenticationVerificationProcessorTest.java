@@ -0,0 +1,218 @@
+package com.webauthn4j.async;
+
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticationParameters;
+import com.webauthn4j.data.AuthenticationRequest;
+import com.webauthn4j.verifier.exception.BadSignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthenticationVerificationProcessorTest {
+
+    private final WebAuthnAuthenticationAsyncManager manager = mock(WebAuthnAuthenticationAsyncManager.class);
+    private final AuthenticationParameters authenticationParameters = mock(AuthenticationParameters.class);
+    private final List<AuthenticationVerificationProcessor.Item> items = new ArrayList<>();
+    private final List<AuthenticationData> authenticationDataList = new ArrayList<>();
+    private final List<CompletableFuture<AuthenticationData>> futures = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        for (int i = 0; i < 3; i++) {
+            AuthenticationRequest authenticationRequest = mock(AuthenticationRequest.class);
+            AuthenticationData authenticationData = mock(AuthenticationData.class);
+            CompletableFuture<AuthenticationData> future = new CompletableFuture<>();
+            when(manager.parse(authenticationRequest)).thenReturn(CompletableFuture.completedFuture(authenticationData));
+            when(manager.verify(authenticationData, authenticationParameters)).thenReturn(future);
+            items.add(new AuthenticationVerificationProcessor.Item(authenticationRequest, authenticationParameters));
+            authenticationDataList.add(authenticationData);
+            futures.add(future);
+        }
+    }
+
+    @Test
+    void ordered_test() {
+        AuthenticationVerificationProcessor target = new AuthenticationVerificationProcessor(manager, Runnable::run, 4, 2, true);
+        TestUpstreamSubscription upstream = new TestUpstreamSubscription();
+        TestSubscriber subscriber = new TestSubscriber();
+        target.onSubscribe(upstream);
+        target.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(upstream.requested).isEqualTo(4);
+
+        items.forEach(target::onNext);
+        futures.get(2).completeExceptionally(new BadSignatureException("dummy"));
+        futures.get(0).complete(authenticationDataList.get(0));
+        assertThat(subscriber.results).hasSize(1);
+        futures.get(1).complete(authenticationDataList.get(1));
+        target.onComplete();
+
+        assertThat(subscriber.results).extracting(AuthenticationVerificationProcessor.Result::getItem).containsExactlyElementsOf(items);
+        assertThat(subscriber.results.get(0).getAuthenticationData()).isSameAs(authenticationDataList.get(0));
+        assertThat(subscriber.results.get(2).isSuccess()).isFalse();
+        assertThat(subscriber.results.get(2).getException()).isInstanceOf(BadSignatureException.class);
+        assertThat(upstream.requested).isEqualTo(7);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    void unordered_test() {
+        AuthenticationVerificationProcessor target = new AuthenticationVerificationProcessor(manager, Runnable::run, 4, 2, false);
+        TestSubscriber subscriber = new TestSubscriber();
+        target.onSubscribe(new TestUpstreamSubscription());
+        target.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        items.forEach(target::onNext);
+        futures.get(2).complete(authenticationDataList.get(2));
+        futures.get(0).complete(authenticationDataList.get(0));
+        futures.get(1).complete(authenticationDataList.get(1));
+
+        assertThat(subscriber.results).extracting(AuthenticationVerificationProcessor.Result::getItem).containsExactly(items.get(2), items.get(0), items.get(1));
+    }
+
+    @Test
+    void backpressure_test() {
+        AuthenticationVerificationProcessor target = new AuthenticationVerificationProcessor(manager, Runnable::run, 3, 2, true);
+        TestUpstreamSubscription upstream = new TestUpstreamSubscription();
+        TestSubscriber subscriber = new TestSubscriber();
+        target.onSubscribe(upstream);
+        target.subscribe(subscriber);
+
+        items.forEach(target::onNext);
+        futures.forEach(future -> future.complete(mock(AuthenticationData.class)));
+        // results wait for downstream demand, and no more items are requested from upstream meanwhile
+        assertThat(subscriber.results).isEmpty();
+        assertThat(upstream.requested).isEqualTo(3);
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.results).hasSize(1);
+        assertThat(upstream.requested).isEqualTo(3);
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.results).hasSize(2);
+        assertThat(upstream.requested).isEqualTo(5);
+    }
+
+    @Test
+    void cancel_test() {
+        AuthenticationVerificationProcessor target = new AuthenticationVerificationProcessor(manager, Runnable::run, 4, 2, true);
+        TestUpstreamSubscription upstream = new TestUpstreamSubscription();
+        TestSubscriber subscriber = new TestSubscriber();
+        target.onSubscribe(upstream);
+        target.subscribe(subscriber);
+
+        subscriber.subscription.cancel();
+        assertThat(upstream.cancelled).isTrue();
+    }
+
+    @Test
+    void non_positive_request_test() {
+        AuthenticationVerificationProcessor target = new AuthenticationVerificationProcessor(manager, Runnable::run, 4, 2, true);
+        TestUpstreamSubscription upstream = new TestUpstreamSubscription();
+        TestSubscriber subscriber = new TestSubscriber();
+        target.onSubscribe(upstream);
+        target.subscribe(subscriber);
+
+        items.forEach(target::onNext);
+        futures.get(0).complete(authenticationDataList.get(0));
+        subscriber.subscription.request(0);
+        assertThat(upstream.cancelled).isTrue();
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(subscriber.errorCount).isEqualTo(1);
+
+        // no further signals follow the error
+        futures.get(1).complete(authenticationDataList.get(1));
+        subscriber.subscription.request(1);
+        subscriber.subscription.request(-1);
+        target.onComplete();
+        assertThat(subscriber.results).isEmpty();
+        assertThat(subscriber.errorCount).isEqualTo(1);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    void non_positive_request_in_onSubscribe_test() {
+        AuthenticationVerificationProcessor target = new AuthenticationVerificationProcessor(manager, Runnable::run, 4, 2, true);
+        TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                super.onSubscribe(subscription);
+                subscription.request(-1);
+            }
+        };
+        target.onSubscribe(new TestUpstreamSubscription());
+        target.subscribe(subscriber);
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(subscriber.errorCount).isEqualTo(1);
+    }
+
+    @Test
+    void second_subscriber_test() {
+        AuthenticationVerificationProcessor target = new AuthenticationVerificationProcessor(manager, 4);
+        target.subscribe(new TestSubscriber());
+        TestSubscriber second = new TestSubscriber();
+        target.subscribe(second);
+        assertThat(second.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void batchSize_greater_than_parallelism_test() {
+        assertThatThrownBy(() -> new AuthenticationVerificationProcessor(manager, Runnable::run, 2, 4, true)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class TestUpstreamSubscription implements Flow.Subscription {
+
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<AuthenticationVerificationProcessor.Result> {
+
+        private final List<AuthenticationVerificationProcessor.Result> results = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private int errorCount;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(AuthenticationVerificationProcessor.Result item) {
+            results.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+            errorCount++;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -2,10 +2,14 @@ package com.webauthn4j.async.util.internal;
 
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Random;
 import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,4 +23,16 @@ class FileAsyncUtilTest {
         assertThat(bytes).hasSize(451);
     }
 
+    @Test
+    void load_files_of_various_sizes_test(@TempDir Path tempDir) throws IOException, ExecutionException, InterruptedException {
+        for (int size : new int[]{0, 1024, 4096, 3 * 1024 * 1024 + 1}) {
+            byte[] data = new byte[size];
+            new Random(size).nextBytes(data);
+            Path path = tempDir.resolve("data-" + size + ".bin");
+            Files.write(path, data);
+            byte[] bytes = FileAsyncUtil.load(path).toCompletableFuture().get();
+            assertThat(bytes).isEqualTo(data);
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.webauthn4j.async.util.internal;
+
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VirtualThreadUtilTest {
+
+    @Test
+    void getExecutor_test() throws ExecutionException, InterruptedException {
+        if (Runtime.version().feature() >= 21) {
+            assertThat(VirtualThreadUtil.isSupported()).isTrue();
+            String threadName = CompletableFuture.supplyAsync(() -> Thread.currentThread().toString(), VirtualThreadUtil.getExecutor()).get();
+            assertThat(threadName).startsWith("VirtualThread");
+        }
+        else {
+            assertThat(VirtualThreadUtil.isSupported()).isFalse();
+            assertThatThrownBy(VirtualThreadUtil::getExecutor).isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+}
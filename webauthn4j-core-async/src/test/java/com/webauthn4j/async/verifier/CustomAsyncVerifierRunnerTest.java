@@ -0,0 +1,83 @@
+package com.webauthn4j.async.verifier;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomAsyncVerifierRunnerTest {
+
+    @Test
+    void sequential_test() {
+        List<String> invoked = new ArrayList<>();
+        CompletableFuture<Void> first = new CompletableFuture<>();
+        List<CompletableFuture<Void>> stages = Arrays.asList(first, CompletableFuture.completedFuture(null));
+
+        CompletionStage<Void> result = CustomAsyncVerifierRunner.run(Arrays.asList(0, 1), index -> {
+            invoked.add("verifier" + index);
+            return stages.get(index);
+        }, false, null);
+
+        assertThat(invoked).containsExactly("verifier0");
+        first.complete(null);
+        assertThat(invoked).containsExactly("verifier0", "verifier1");
+        assertThat(result.toCompletableFuture()).isCompleted();
+    }
+
+    @Test
+    void concurrent_test() {
+        List<String> invoked = new ArrayList<>();
+        List<CompletableFuture<Void>> stages = Arrays.asList(new CompletableFuture<>(), new CompletableFuture<>());
+
+        CompletionStage<Void> result = CustomAsyncVerifierRunner.run(Arrays.asList(0, 1), index -> {
+            invoked.add("verifier" + index);
+            return stages.get(index);
+        }, true, null);
+
+        assertThat(invoked).containsExactly("verifier0", "verifier1");
+        stages.get(1).complete(null);
+        assertThat(result.toCompletableFuture()).isNotDone();
+        stages.get(0).complete(null);
+        assertThat(result.toCompletableFuture()).isCompleted();
+    }
+
+    @Test
+    void concurrent_fails_fast_test() {
+        IllegalStateException exception = new IllegalStateException("dummy");
+        List<CompletableFuture<Void>> stages = Arrays.asList(new CompletableFuture<>(), CompletableFuture.failedFuture(exception));
+
+        CompletionStage<Void> result = CustomAsyncVerifierRunner.run(Arrays.asList(0, 1), stages::get, true, null);
+
+        assertThatThrownBy(() -> result.toCompletableFuture().get()).isInstanceOf(ExecutionException.class).hasCause(exception);
+    }
+
+    @Test
+    void synchronous_exception_test() {
+        IllegalStateException exception = new IllegalStateException("dummy");
+
+        CompletionStage<Void> result = CustomAsyncVerifierRunner.run(Arrays.asList(0, 1), index -> {
+            throw exception;
+        }, false, null);
+
+        assertThatThrownBy(() -> result.toCompletableFuture().get()).isInstanceOf(ExecutionException.class).hasCause(exception);
+    }
+
+    @Test
+    void timeout_test() {
+        CompletableFuture<Void> neverCompleted = new CompletableFuture<>();
+
+        CompletionStage<Void> result = CustomAsyncVerifierRunner.run(Arrays.asList(0), index -> neverCompleted, true, Duration.ofMillis(10));
+
+        assertThatThrownBy(() -> result.toCompletableFuture().get()).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(neverCompleted).isNotDone();
+    }
+}
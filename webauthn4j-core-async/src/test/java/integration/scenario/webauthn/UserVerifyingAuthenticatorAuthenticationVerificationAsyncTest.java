@@ -40,6 +40,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -58,6 +59,21 @@ class UserVerifyingAuthenticatorAuthenticationVerificationAsyncTest {
 
     @Test
     void verify_test() throws ExecutionException, InterruptedException {
+        verifyAuthentication();
+    }
+
+    @Test
+    void verify_with_executor_test() throws ExecutionException, InterruptedException {
+        AtomicInteger executedTasks = new AtomicInteger();
+        target.setExecutor(runnable -> {
+            executedTasks.incrementAndGet();
+            runnable.run();
+        });
+        verifyAuthentication();
+        assertThat(executedTasks).hasPositiveValue();
+    }
+
+    private void verifyAuthentication() throws ExecutionException, InterruptedException {
         String rpId = "example.com";
         long timeout = 0;
         Challenge challenge = new DefaultChallenge();
@@ -33,12 +33,18 @@ import com.webauthn4j.verifier.AuthenticationDataVerifier;
 import com.webauthn4j.verifier.CustomAuthenticationVerifier;
 import com.webauthn4j.verifier.exception.VerificationException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 @SuppressWarnings("java:S6539")
 public class WebAuthnAuthenticationManager {
@@ -90,6 +96,17 @@ public class WebAuthnAuthenticationManager {
         return toAuthenticationData(publicKeyCredential);
     }
 
+    /**
+     * Parses authentication response JSON given as UTF-8 bytes, without decoding them into an intermediate String.
+     *
+     * @param authenticationResponseJSON authentication response JSON in UTF-8 bytes
+     * @return parsed {@link AuthenticationData}
+     */
+    public @NotNull AuthenticationData parse(@NotNull byte[] authenticationResponseJSON) {
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> publicKeyCredential = objectConverter.getJsonConverter().readValue(authenticationResponseJSON, new TypeReference<>() {});
+        return toAuthenticationData(publicKeyCredential);
+    }
+
     @SuppressWarnings("java:S2583")
     private @NotNull AuthenticationData toAuthenticationData(@NotNull PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> publicKeyCredential){
         byte[] credentialId = publicKeyCredential.getRawId();
@@ -162,6 +179,13 @@ public class WebAuthnAuthenticationManager {
         return verify(authenticationData, authenticationParameters);
     }
 
+    public @NotNull AuthenticationData verify(
+            @NotNull byte[] authenticationResponseJSON,
+            @NotNull AuthenticationParameters authenticationParameters) throws DataConversionException, VerificationException {
+        AuthenticationData authenticationData = parse(authenticationResponseJSON);
+        return verify(authenticationData, authenticationParameters);
+    }
+
     @SuppressWarnings("squid:S1130")
     public @NotNull AuthenticationData verify(
             @NotNull AuthenticationRequest authenticationRequest,
@@ -180,6 +204,68 @@ public class WebAuthnAuthenticationManager {
         return authenticationData;
     }
 
+    /**
+     * Parses and verifies multiple {@link AuthenticationRequest}s in parallel on {@link ForkJoinPool#commonPool()}.
+     * Items are verified concurrently, and each verification updates the {@link com.webauthn4j.credential.CredentialRecord}
+     * of its {@link AuthenticationParameters}, e.g. its counter. The provider must not hand the same record to more than one item.
+     *
+     * @param authenticationRequests     authentication requests
+     * @param authenticationParametersProvider function to resolve {@link AuthenticationParameters} for each parsed {@link AuthenticationData}
+     * @return per-item results in the same order as the requests
+     */
+    public @NotNull List<AuthenticationResult> verifyAll(
+            @NotNull List<AuthenticationRequest> authenticationRequests,
+            @NotNull Function<AuthenticationData, AuthenticationParameters> authenticationParametersProvider) {
+        return verifyAll(authenticationRequests, authenticationParametersProvider, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses and verifies multiple {@link AuthenticationRequest}s in parallel on the specified {@link Executor}.
+     * A failure of one item doesn't fail the whole batch. It is reported in the corresponding {@link AuthenticationResult}.
+     * Items are verified concurrently, and each verification updates the {@link com.webauthn4j.credential.CredentialRecord}
+     * of its {@link AuthenticationParameters}, e.g. its counter. The provider must not hand the same record to more than one item,
+     * as concurrent updates of a shared record make verifications fail the counter check depending on their completion order.
+     *
+     * @param authenticationRequests     authentication requests
+     * @param authenticationParametersProvider function to resolve {@link AuthenticationParameters} for each parsed {@link AuthenticationData}
+     * @param executor                   executor to run parse and verification
+     * @return per-item results in the same order as the requests
+     */
+    public @NotNull List<AuthenticationResult> verifyAll(
+            @NotNull List<AuthenticationRequest> authenticationRequests,
+            @NotNull Function<AuthenticationData, AuthenticationParameters> authenticationParametersProvider,
+            @NotNull Executor executor) {
+        AssertUtil.notNull(authenticationRequests, "authenticationRequests must not be null");
+        AssertUtil.notNull(authenticationParametersProvider, "authenticationParametersProvider must not be null");
+        AssertUtil.notNull(executor, "executor must not be null");
+
+        // A single item doesn't benefit from dispatching, so it is processed on the caller thread.
+        if (authenticationRequests.size() == 1) {
+            return Collections.singletonList(verifyItem(authenticationRequests.get(0), authenticationParametersProvider));
+        }
+        List<CompletableFuture<AuthenticationResult>> futures = new ArrayList<>(authenticationRequests.size());
+        for (AuthenticationRequest authenticationRequest : authenticationRequests) {
+            futures.add(CompletableFuture.supplyAsync(() -> verifyItem(authenticationRequest, authenticationParametersProvider), executor));
+        }
+        List<AuthenticationResult> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<AuthenticationResult> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    private @NotNull AuthenticationResult verifyItem(
+            @Nullable AuthenticationRequest authenticationRequest,
+            @NotNull Function<AuthenticationData, AuthenticationParameters> authenticationParametersProvider) {
+        try {
+            AuthenticationData authenticationData = parse(authenticationRequest);
+            AuthenticationParameters authenticationParameters = authenticationParametersProvider.apply(authenticationData);
+            return AuthenticationResult.success(verify(authenticationData, authenticationParameters));
+        } catch (RuntimeException e) {
+            return AuthenticationResult.failure(e);
+        }
+    }
+
     public @NotNull AuthenticationDataVerifier getAuthenticationDataVerifier() {
         return authenticationDataVerifier;
     }
@@ -42,6 +42,8 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 @SuppressWarnings("java:S6539")
 public class WebAuthnManager {
@@ -202,6 +204,10 @@ public class WebAuthnManager {
         return this.webAuthnAuthenticationManager.parse(authenticationResponseJSON);
     }
 
+    public @NotNull AuthenticationData parseAuthenticationResponseJSON(@NotNull byte[] authenticationResponseJSON) throws DataConversionException {
+        return this.webAuthnAuthenticationManager.parse(authenticationResponseJSON);
+    }
+
     @SuppressWarnings("squid:S1130")
     public @NotNull AuthenticationData parse(@NotNull AuthenticationRequest authenticationRequest) throws DataConversionException {
         return this.webAuthnAuthenticationManager.parse(authenticationRequest);
@@ -215,6 +221,10 @@ public class WebAuthnManager {
         return this.webAuthnAuthenticationManager.verify(authenticationResponseJSON, authenticationParameters);
     }
 
+    public @NotNull AuthenticationData verifyAuthenticationResponseJSON(@NotNull byte[] authenticationResponseJSON, @NotNull AuthenticationParameters authenticationParameters) throws DataConversionException, VerificationException {
+        return this.webAuthnAuthenticationManager.verify(authenticationResponseJSON, authenticationParameters);
+    }
+
     @SuppressWarnings("squid:S1130")
     public @NotNull AuthenticationData verify(@NotNull AuthenticationRequest authenticationRequest, @NotNull AuthenticationParameters authenticationParameters) throws DataConversionException, VerificationException {
         return this.webAuthnAuthenticationManager.verify(authenticationRequest, authenticationParameters);
@@ -241,6 +251,14 @@ public class WebAuthnManager {
         return verify(authenticationData, authenticationParameters);
     }
 
+    public @NotNull List<AuthenticationResult> verifyAll(@NotNull List<AuthenticationRequest> authenticationRequests, @NotNull Function<AuthenticationData, AuthenticationParameters> authenticationParametersProvider) {
+        return this.webAuthnAuthenticationManager.verifyAll(authenticationRequests, authenticationParametersProvider);
+    }
+
+    public @NotNull List<AuthenticationResult> verifyAll(@NotNull List<AuthenticationRequest> authenticationRequests, @NotNull Function<AuthenticationData, AuthenticationParameters> authenticationParametersProvider, @NotNull Executor executor) {
+        return this.webAuthnAuthenticationManager.verifyAll(authenticationRequests, authenticationParametersProvider, executor);
+    }
+
     public @NotNull RegistrationDataVerifier getRegistrationDataVerifier() {
         return this.webAuthnRegistrationManager.getRegistrationDataVerifier();
     }
@@ -80,6 +80,12 @@ public class KeyStoreTrustAnchorRepository implements TrustAnchorRepository{
         return trustAnchors;
     }
 
+    @Override
+    public long getVersion() {
+        // trust anchors are loaded once on construction
+        return 0;
+    }
+
     private static @NotNull Set<TrustAnchor> loadTrustAnchors(KeyStore keyStore) {
         try {
             List<String> aliases = Collections.list(keyStore.aliases());
@@ -27,6 +27,11 @@ import java.util.Set;
  */
 public interface TrustAnchorRepository {
 
+    /**
+     * Version returned by repositories which cannot tell whether their trust anchors changed
+     */
+    long UNKNOWN_VERSION = -1;
+
     /**
      * Look up {@link TrustAnchor}(s) by {@link AAGUID}
      * @param aaguid {@link AAGUID} for the authenticator
@@ -40,4 +45,14 @@ public interface TrustAnchorRepository {
      * @return {@link Set<TrustAnchor>}
      */
     Set<TrustAnchor> find(byte[] attestationCertificateKeyIdentifier);
+
+    /**
+     * Returns the version of the trust anchors held by this repository. The version must change whenever subsequent
+     * lookups may return different trust anchors, so that callers can cache lookup results until it changes.
+     * Lookup results of repositories returning {@link #UNKNOWN_VERSION} are never cached by callers.
+     * @return version, or {@link #UNKNOWN_VERSION}
+     */
+    default long getVersion() {
+        return UNKNOWN_VERSION;
+    }
 }
@@ -25,8 +25,6 @@ import com.webauthn4j.util.Base64UrlUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.nio.charset.StandardCharsets;
-
 /**
  * Converter for {@link CollectedClientData}
  */
@@ -73,8 +71,8 @@ public class CollectedClientDataConverter {
     public @Nullable CollectedClientData convert(@NotNull byte[] source) {
         try {
             AssertUtil.notNull(source, "source must not be null");
-            String jsonString = new String(source, StandardCharsets.UTF_8);
-            return jsonConverter.readValue(jsonString, CollectedClientData.class);
+            // UTF-8 bytes are fed to the JSON parser directly without decoding them into an intermediate String
+            return jsonConverter.readValue(source, CollectedClientData.class);
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
         }
@@ -52,7 +52,7 @@ public class WebAuthnCBORModule extends SimpleModule {
         this.addDeserializer(JWS.class, new JWSDeserializer(objectConverter));
         this.addDeserializer(TPMSAttest.class, new TPMSAttestDeserializer());
         this.addDeserializer(TPMTPublic.class, new TPMTPublicDeserializer());
-        this.addDeserializer(X509Certificate.class, new X509CertificateDeserializer());
+        this.addDeserializer(X509Certificate.class, new X509CertificateDeserializer(objectConverter));
 
         this.addSerializer(new AttestationObjectSerializer());
         this.addSerializer(new AAGUIDSerializer());
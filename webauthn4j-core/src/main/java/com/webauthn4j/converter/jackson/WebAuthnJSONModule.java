@@ -50,7 +50,7 @@ public class WebAuthnJSONModule extends SimpleModule {
         this.addDeserializer(PublicKeyRepresentationFormat.class, new PublicKeyRepresentationFormatFromIntDeserializer());
         this.addDeserializer(TransactionConfirmationDisplay.class, new TransactionConfirmationDisplayFromIntDeserializer());
         this.addDeserializer(UserVerificationMethod.class, new UserVerificationMethodFromLongDeserializer());
-        this.addDeserializer(X509Certificate.class, new X509CertificateDeserializer());
+        this.addDeserializer(X509Certificate.class, new X509CertificateDeserializer(objectConverter));
 
         this.addDeserializer(byte[].class, new ByteArrayBase64UrlDeserializer());
 
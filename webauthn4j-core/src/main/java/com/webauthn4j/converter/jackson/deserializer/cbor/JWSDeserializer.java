@@ -28,7 +28,6 @@ import com.webauthn4j.util.AssertUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 /**
  * Jackson Deserializer for {@link JWS}
@@ -50,9 +49,8 @@ public class JWSDeserializer extends StdDeserializer<JWS<?>> {
     public @NotNull JWS<?> deserialize(@NotNull JsonParser p, @NotNull DeserializationContext ctxt) throws IOException {
 
         byte[] value = p.getBinaryValue();
-        String str = new String(value, StandardCharsets.UTF_8);
         try {
-            return jwsFactory.parse(str, Response.class);
+            return jwsFactory.parse(value, Response.class);
         } catch (IllegalArgumentException e) {
             throw new InvalidFormatException(p, "value is not valid as JWS", value, JWS.class);
         }
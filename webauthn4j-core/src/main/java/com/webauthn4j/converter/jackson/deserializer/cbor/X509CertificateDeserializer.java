@@ -19,6 +19,8 @@ package com.webauthn4j.converter.jackson.deserializer.cbor;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.converter.util.X509CertificateCache;
 import com.webauthn4j.util.CertificateUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -32,8 +34,15 @@ import java.security.cert.X509Certificate;
 public class X509CertificateDeserializer extends StdDeserializer<X509Certificate> {
 
 
-    public X509CertificateDeserializer() {
+    private final ObjectConverter objectConverter;
+
+    public X509CertificateDeserializer(@Nullable ObjectConverter objectConverter) {
         super(X509Certificate.class);
+        this.objectConverter = objectConverter;
+    }
+
+    public X509CertificateDeserializer() {
+        this(null);
     }
 
     /**
@@ -45,6 +54,11 @@ public class X509CertificateDeserializer extends StdDeserializer<X509Certificate
         if (value.length == 0) {
             return null;
         }
-        return CertificateUtil.generateX509Certificate(value);
+        return generateX509Certificate(value);
+    }
+
+    private @NotNull X509Certificate generateX509Certificate(@NotNull byte[] bytes) {
+        X509CertificateCache x509CertificateCache = objectConverter == null ? null : objectConverter.getX509CertificateCache();
+        return x509CertificateCache == null ? CertificateUtil.generateX509Certificate(bytes) : x509CertificateCache.get(bytes);
     }
 }
@@ -17,6 +17,7 @@
 package com.webauthn4j.converter.jackson.deserializer.json;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.webauthn4j.util.Base64UrlUtil;
@@ -31,6 +32,22 @@ public class ByteArrayBase64UrlDeserializer extends StdDeserializer<byte[]> {
 
     @Override
     public byte[] deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        return Base64UrlUtil.decode(p.getValueAsString());
+        if (p.currentToken() != JsonToken.VALUE_STRING) {
+            return Base64UrlUtil.decode(p.getValueAsString());
+        }
+        // decode straight from the parser buffer without materializing an intermediate String.
+        // Base64UrlUtil is used rather than JsonParser#getBinaryValue to keep its strictness (e.g. whitespace is rejected).
+        char[] chars = p.getTextCharacters();
+        int offset = p.getTextOffset();
+        int length = p.getTextLength();
+        byte[] source = new byte[length];
+        for (int i = 0; i < length; i++) {
+            char c = chars[offset + i];
+            if (c > 0x7F) {
+                throw new IllegalArgumentException("Illegal base64url character " + Integer.toHexString(c));
+            }
+            source[i] = (byte) c;
+        }
+        return Base64UrlUtil.decode(source);
     }
 }
@@ -73,6 +73,16 @@ public class JsonConverter {
         }
     }
 
+    public <T> @Nullable T readValue(@NotNull byte[] src, @NotNull Class<T> valueType) {
+        try {
+            return jsonMapper.readValue(src, valueType);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public <T> @Nullable T readValue(@NotNull String src, @NotNull TypeReference<T> valueTypeRef) {
         try {
             return jsonMapper.readValue(src, valueTypeRef);
@@ -93,6 +103,16 @@ public class JsonConverter {
         }
     }
 
+    public <T> @Nullable T readValue(@NotNull byte[] src, @NotNull TypeReference<T> valueTypeRef) {
+        try {
+            return jsonMapper.readValue(src, valueTypeRef);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public @NotNull byte[] writeValueAsBytes(@Nullable Object value) {
         try {
             return jsonMapper.writeValueAsBytes(value);
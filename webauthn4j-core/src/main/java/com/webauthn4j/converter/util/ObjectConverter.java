@@ -24,6 +24,7 @@ import com.webauthn4j.converter.jackson.WebAuthnCBORModule;
 import com.webauthn4j.converter.jackson.WebAuthnJSONModule;
 import com.webauthn4j.util.AssertUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A set of object converter classes
@@ -33,6 +34,8 @@ public class ObjectConverter {
     private final JsonConverter jsonConverter;
     private final CborConverter cborConverter;
 
+    private volatile X509CertificateCache x509CertificateCache;
+
     public ObjectConverter(@NotNull ObjectMapper jsonMapper, @NotNull ObjectMapper cborMapper) {
         AssertUtil.notNull(jsonMapper, "jsonMapper must not be null");
         AssertUtil.notNull(cborMapper, "cborMapper must not be null");
@@ -78,4 +81,17 @@ public class ObjectConverter {
         return cborConverter;
     }
 
+    public @Nullable X509CertificateCache getX509CertificateCache() {
+        return x509CertificateCache;
+    }
+
+    /**
+     * Sets the cache used to intern X.509 certificates while deserializing JSON and CBOR data, such as x5c of attestation statements.
+     *
+     * @param x509CertificateCache cache, or null to parse every certificate
+     */
+    public void setX509CertificateCache(@Nullable X509CertificateCache x509CertificateCache) {
+        this.x509CertificateCache = x509CertificateCache;
+    }
+
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter.util;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.security.cert.X509Certificate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache interning parsed {@link X509Certificate}s by the SHA-256 digest of their DER encoding.
+ * Intermediate and batch attestation certificates repeated across attestation statements are parsed once and shared as
+ * the same instance. When the cache is full, the least recently used certificate is evicted.
+ */
+public class X509CertificateCache {
+
+    private final int maxEntries;
+    private final Map<ByteBuffer, X509Certificate> cache;
+
+    public X509CertificateCache(int maxEntries) {
+        AssertUtil.isTrue(maxEntries > 0, "maxEntries must be positive");
+        this.maxEntries = maxEntries;
+        this.cache = new LinkedHashMap<ByteBuffer, X509Certificate>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, X509Certificate> eldest) {
+                return size() > X509CertificateCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the certificate encoded by the given bytes, parsing it only if it is not cached yet.
+     *
+     * @param bytes DER encoded certificate
+     * @return certificate
+     * @throws IllegalArgumentException if the bytes cannot be parsed as a certificate
+     */
+    public @NotNull X509Certificate get(@NotNull byte[] bytes) {
+        AssertUtil.notNull(bytes, "bytes must not be null");
+        ByteBuffer key = ByteBuffer.wrap(MessageDigestUtil.getSHA256().digest(bytes));
+        synchronized (cache) {
+            X509Certificate certificate = cache.get(key);
+            if (certificate != null) {
+                return certificate;
+            }
+        }
+        // parse outside the lock; a certificate parsed concurrently by another thread wins
+        X509Certificate certificate = CertificateUtil.generateX509Certificate(bytes);
+        synchronized (cache) {
+            X509Certificate existing = cache.putIfAbsent(key, certificate);
+            return existing == null ? certificate : existing;
+        }
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Per-item result of a batch authentication verification.
+ * Holds either the verified {@link AuthenticationData} or the exception thrown while parsing or verifying the item.
+ */
+public class AuthenticationResult {
+
+    private final AuthenticationData authenticationData;
+    private final RuntimeException exception;
+
+    private AuthenticationResult(@Nullable AuthenticationData authenticationData, @Nullable RuntimeException exception) {
+        this.authenticationData = authenticationData;
+        this.exception = exception;
+    }
+
+    public static @NotNull AuthenticationResult success(@NotNull AuthenticationData authenticationData) {
+        return new AuthenticationResult(authenticationData, null);
+    }
+
+    public static @NotNull AuthenticationResult failure(@NotNull RuntimeException exception) {
+        return new AuthenticationResult(null, exception);
+    }
+
+    /**
+     * Returns true if the item is successfully parsed and verified
+     *
+     * @return true if the item is successfully parsed and verified
+     */
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    /**
+     * Returns the verified {@link AuthenticationData}, or null if the verification failed
+     *
+     * @return the verified {@link AuthenticationData}
+     */
+    public @Nullable AuthenticationData getAuthenticationData() {
+        return authenticationData;
+    }
+
+    /**
+     * Returns the exception thrown while parsing or verifying the item, or null if the verification succeeded
+     *
+     * @return the exception
+     */
+    public @Nullable RuntimeException getException() {
+        return exception;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AuthenticationResult that = (AuthenticationResult) o;
+        return Objects.equals(authenticationData, that.authenticationData) &&
+                Objects.equals(exception, that.exception);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(authenticationData, exception);
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticationResult(" +
+                "authenticationData=" + authenticationData +
+                ", exception=" + exception +
+                ')';
+    }
+}
@@ -21,6 +21,7 @@ import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthen
 import com.webauthn4j.util.ArrayUtil;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -66,6 +67,24 @@ public class CoreAuthenticationData {
         return ArrayUtil.clone(signature);
     }
 
+    /**
+     * Returns a read-only view of authenticatorData bytes. Unlike {@link #getAuthenticatorDataBytes()}, the underlying array is not copied.
+     *
+     * @return read-only view of authenticatorData bytes
+     */
+    public @Nullable ByteBuffer getAuthenticatorDataByteBuffer() {
+        return authenticatorDataBytes == null ? null : ByteBuffer.wrap(authenticatorDataBytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns a read-only view of clientDataHash. Unlike {@link #getClientDataHash()}, the underlying array is not copied.
+     *
+     * @return read-only view of clientDataHash
+     */
+    public @Nullable ByteBuffer getClientDataHashByteBuffer() {
+        return clientDataHash == null ? null : ByteBuffer.wrap(clientDataHash).asReadOnlyBuffer();
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) return true;
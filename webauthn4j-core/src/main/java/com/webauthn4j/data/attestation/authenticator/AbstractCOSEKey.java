@@ -24,6 +24,7 @@ import com.webauthn4j.data.attestation.statement.COSEKeyType;
 import com.webauthn4j.util.ArrayUtil;
 import org.jetbrains.annotations.Nullable;
 
+import java.security.PublicKey;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -42,6 +43,10 @@ public abstract class AbstractCOSEKey implements COSEKey {
     @JsonProperty("5")
     private final byte[] baseIV;
 
+    // Resolved lazily as KeyFactory lookup and point validation are costly. COSE key parameters are immutable,
+    // so a racy publication only results in the same key being resolved more than once.
+    private transient volatile PublicKey publicKey;
+
     @SuppressWarnings("SameParameterValue")
     @JsonCreator
     AbstractCOSEKey(
@@ -75,6 +80,23 @@ public abstract class AbstractCOSEKey implements COSEKey {
         return ArrayUtil.clone(baseIV);
     }
 
+    @Override
+    public @Nullable PublicKey getPublicKey() {
+        PublicKey resolved = publicKey;
+        if (resolved == null) {
+            resolved = createPublicKey();
+            publicKey = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * Creates the JCA {@link PublicKey} from the COSE key parameters. The result is cached by {@link #getPublicKey()}.
+     *
+     * @return public key, or null if the COSE key doesn't have a public key
+     */
+    protected abstract @Nullable PublicKey createPublicKey();
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) return true;
@@ -168,7 +168,7 @@ public class EdDSACOSEKey extends AbstractCOSEKey {
     }
 
     @Override
-    public @Nullable PublicKey getPublicKey() {
+    protected @Nullable PublicKey createPublicKey() {
         if (!hasPublicKey()) {
             return null;
         }
@@ -38,17 +38,25 @@ public class JWS<T> {
     private final T payload;
     private final byte[] signature;
 
-    private final String headerString;
-    private final String payloadString;
+    /**
+     * Buffer starting with the JWS signing input ("base64url(header).base64url(payload)") in ASCII. It is kept as bytes
+     * so that large JWS like MetadataBLOB can be verified without building the signing input again.
+     */
+    private final byte[] signingInput;
+    private final int signingInputLength;
 
-    JWS(@NotNull JWSHeader header, @NotNull String headerString, @NotNull T payload, @NotNull String payloadString, @NotNull byte[] signature) {
+    JWS(@NotNull JWSHeader header, @NotNull byte[] signingInput, int signingInputLength, @NotNull T payload, @NotNull byte[] signature) {
         logger = LoggerFactory.getLogger(JWS.class);
 
         this.header = header;
         this.payload = payload;
         this.signature = signature;
-        this.headerString = headerString;
-        this.payloadString = payloadString;
+        this.signingInput = signingInput;
+        this.signingInputLength = signingInputLength;
+    }
+
+    JWS(@NotNull JWSHeader header, @NotNull byte[] signingInput, @NotNull T payload, @NotNull byte[] signature) {
+        this(header, signingInput, signingInput.length, payload, signature);
     }
 
     public @NotNull JWSHeader getHeader() {
@@ -69,15 +77,14 @@ public class JWS<T> {
      * @return true if it pass validation
      */
     public boolean isValidSignature() {
-        String signedData = headerString + "." + payloadString;
         try {
             if (header.getAlg() == null || header.getX5c() == null || header.getX5c().getCertificates().isEmpty()) {
                 return false;
             }
-            Signature signatureObj = SignatureUtil.createSignature(header.getAlg().getJcaName());
+            Signature signatureObj = SignatureUtil.getSignature(header.getAlg().getJcaName());
             PublicKey publicKey = header.getX5c().getCertificates().get(0).getPublicKey();
             signatureObj.initVerify(publicKey);
-            signatureObj.update(signedData.getBytes());
+            signatureObj.update(signingInput, 0, signingInputLength);
             byte[] sig;
             if (publicKey instanceof ECPublicKey) {
                 sig = JWSSignatureUtil.convertJwsSignatureToDerSignature(signature);
@@ -93,12 +100,17 @@ public class JWS<T> {
     }
 
     public @NotNull byte[] getBytes() {
-        return toString().getBytes(StandardCharsets.UTF_8);
+        byte[] encodedSignature = Base64UrlUtil.encode(signature);
+        byte[] bytes = new byte[signingInputLength + 1 + encodedSignature.length];
+        System.arraycopy(signingInput, 0, bytes, 0, signingInputLength);
+        bytes[signingInputLength] = '.';
+        System.arraycopy(encodedSignature, 0, bytes, signingInputLength + 1, encodedSignature.length);
+        return bytes;
     }
 
     @Override
     public @NotNull String toString() {
-        return headerString + "." + payloadString + "." + Base64UrlUtil.encodeToString(signature);
+        return new String(getBytes(), StandardCharsets.US_ASCII);
     }
 
 }
@@ -23,11 +23,17 @@ import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.SignatureUtil;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.PrivateKey;
 import java.security.Signature;
 import java.security.SignatureException;
+import java.util.Arrays;
 
 public class JWSFactory {
 
@@ -50,19 +56,17 @@ public class JWSFactory {
         AssertUtil.notNull(payload, PAYLOAD_MUST_NOT_BE_NULL);
         AssertUtil.notNull(privateKey, "privateKey must not be null");
 
-        String headerString = Base64UrlUtil.encodeToString(jsonConverter.writeValueAsString(header).getBytes(StandardCharsets.UTF_8));
-        String payloadString = Base64UrlUtil.encodeToString(jsonConverter.writeValueAsString(payload).getBytes(StandardCharsets.UTF_8));
-        String signedData = headerString + "." + payloadString;
+        byte[] signingInput = createSigningInput(header, payload);
         if (header.getAlg() == null) {
             throw new IllegalArgumentException("alg must not be null");
         }
         Signature signatureObj = SignatureUtil.createSignature(header.getAlg().getJcaName());
         try {
             signatureObj.initSign(privateKey);
-            signatureObj.update(signedData.getBytes());
+            signatureObj.update(signingInput);
             byte[] derSignature = signatureObj.sign();
             byte[] jwsSignature = JWSSignatureUtil.convertDerSignatureToJwsSignature(derSignature);
-            return new JWS<>(header, headerString, payload, payloadString, jwsSignature);
+            return new JWS<>(header, signingInput, payload, jwsSignature);
         } catch (InvalidKeyException | SignatureException e) {
             throw new IllegalArgumentException(e);
         }
@@ -73,30 +77,71 @@ public class JWSFactory {
         AssertUtil.notNull(payload, PAYLOAD_MUST_NOT_BE_NULL);
         AssertUtil.notNull(signature, "signature must not be null");
 
-        String headerString = Base64UrlUtil.encodeToString(jsonConverter.writeValueAsString(header).getBytes(StandardCharsets.UTF_8));
-        String payloadString = Base64UrlUtil.encodeToString(jsonConverter.writeValueAsString(payload).getBytes(StandardCharsets.UTF_8));
-        return new JWS<>(header, headerString, payload, payloadString, signature);
+        return new JWS<>(header, createSigningInput(header, payload), payload, signature);
     }
 
     public <T> @NotNull JWS<T> parse(@NotNull String value, @NotNull Class<T> payloadType) {
         AssertUtil.notNull(value, "value must not be null");
         AssertUtil.notNull(payloadType, "payloadType must not be null");
+        // the encoded bytes are owned by this method, so they can back the JWS without another copy
+        return parse(value.getBytes(StandardCharsets.UTF_8), payloadType, false);
+    }
 
-        String[] data = value.split("\\.");
-        if (data.length != 3) {
+    /**
+     * Parses a JWS in compact serialization without building intermediate Strings. The payload is base64url decoded
+     * on the fly while it is read by the JSON parser, which keeps the memory footprint low for large JWS like
+     * MetadataBLOB.
+     *
+     * @param value       JWS in compact serialization
+     * @param payloadType payload type
+     * @param <T>         payload type
+     * @return parsed JWS
+     */
+    public <T> @NotNull JWS<T> parse(@NotNull byte[] value, @NotNull Class<T> payloadType) {
+        AssertUtil.notNull(value, "value must not be null");
+        AssertUtil.notNull(payloadType, "payloadType must not be null");
+        return parse(value, payloadType, true);
+    }
+
+    private <T> @NotNull JWS<T> parse(@NotNull byte[] value, @NotNull Class<T> payloadType, boolean copy) {
+
+        int firstPeriod = indexOfPeriod(value, 0);
+        int secondPeriod = firstPeriod < 0 ? -1 : indexOfPeriod(value, firstPeriod + 1);
+        if (secondPeriod < 0 || secondPeriod == value.length - 1 || indexOfPeriod(value, secondPeriod + 1) >= 0) {
             throw new IllegalArgumentException("JWS value is not divided by two period.");
         }
-        String headerString = data[0];
-        String payloadString = data[1];
-        String signatureString = data[2];
-        JWSHeader header = jsonConverter.readValue(new String(Base64UrlUtil.decode(headerString)), JWSHeader.class);
-        T payload = jsonConverter.readValue(new String(Base64UrlUtil.decode(payloadString)), payloadType);
-        byte[] signature = Base64UrlUtil.decode(signatureString);
+        JWSHeader header = jsonConverter.readValue(Base64UrlUtil.decode(ByteBuffer.wrap(value, 0, firstPeriod)), JWSHeader.class);
+        T payload;
+        try (InputStream payloadStream = Base64UrlUtil.wrap(new ByteArrayInputStream(value, firstPeriod + 1, secondPeriod - firstPeriod - 1))) {
+            payload = jsonConverter.readValue(payloadStream, payloadType);
+        } catch (IOException | UncheckedIOException e) {
+            // reading from memory can only fail on malformed base64url
+            throw new IllegalArgumentException("JWS payload is not valid base64url", e);
+        }
+        byte[] signature = Base64UrlUtil.decode(ByteBuffer.wrap(value, secondPeriod + 1, value.length - secondPeriod - 1));
 
         AssertUtil.notNull(header, HEADER_MUST_NOT_BE_NULL);
         AssertUtil.notNull(payload, PAYLOAD_MUST_NOT_BE_NULL);
 
-        return new JWS<>(header, headerString, payload, payloadString, signature);
+        if (copy) {
+            return new JWS<>(header, Arrays.copyOf(value, secondPeriod), payload, signature);
+        }
+        return new JWS<>(header, value, secondPeriod, payload, signature);
+    }
+
+    private byte[] createSigningInput(@NotNull JWSHeader header, @NotNull Object payload) {
+        String headerString = Base64UrlUtil.encodeToString(jsonConverter.writeValueAsBytes(header));
+        String payloadString = Base64UrlUtil.encodeToString(jsonConverter.writeValueAsBytes(payload));
+        return (headerString + "." + payloadString).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static int indexOfPeriod(@NotNull byte[] value, int fromIndex) {
+        for (int i = fromIndex; i < value.length; i++) {
+            if (value[i] == '.') {
+                return i;
+            }
+        }
+        return -1;
     }
 
 }
@@ -25,10 +25,18 @@ import java.util.Objects;
 
 public class CoreServerProperty {
 
-    private final String rpId;
+    private final RpId rpId;
     private final Challenge challenge;
 
     public CoreServerProperty(@NotNull String rpId, @Nullable Challenge challenge) {
+        this(new RpId(rpId), challenge);
+    }
+
+    /**
+     * @param rpId      rpId with its precomputed hash, which can be shared across ceremonies
+     * @param challenge challenge
+     */
+    public CoreServerProperty(@NotNull RpId rpId, @Nullable Challenge challenge) {
         AssertUtil.notNull(rpId, "rpId must not be null");
         this.rpId = rpId;
         this.challenge = challenge;
@@ -40,7 +48,26 @@ public class CoreServerProperty {
      * @return the rpId
      */
     public @NotNull String getRpId() {
-        return rpId;
+        return rpId.getValue();
+    }
+
+    /**
+     * Returns the SHA-256 hash of the rpId
+     *
+     * @return the rpIdHash
+     */
+    public @NotNull byte[] getRpIdHash() {
+        return rpId.getHash();
+    }
+
+    /**
+     * Returns whether the specified rpIdHash matches the hash of the rpId, without copying the precomputed hash.
+     *
+     * @param rpIdHash rpIdHash to compare
+     * @return true if the hash matches
+     */
+    public boolean isRpIdHashMatched(@Nullable byte[] rpIdHash) {
+        return rpId.isHashMatched(rpIdHash);
     }
 
     /**
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Immutable relying party identifier together with its precomputed SHA-256 hash.
+ * As the rpId is fixed per relying party, a single instance can be created at startup and shared by the
+ * {@link CoreServerProperty} built for each ceremony, so that rpIdHash verification is reduced to an array comparison.
+ */
+public final class RpId {
+
+    private final String value;
+    // never expose without copying
+    private final byte[] hash;
+
+    public RpId(@NotNull String value) {
+        AssertUtil.notNull(value, "rpId must not be null");
+        this.value = value;
+        this.hash = MessageDigestUtil.getSHA256().digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the rpId
+     *
+     * @return the rpId
+     */
+    public @NotNull String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the SHA-256 hash of the rpId
+     *
+     * @return the rpIdHash
+     */
+    public @NotNull byte[] getHash() {
+        return hash.clone();
+    }
+
+    /**
+     * Returns whether the specified rpIdHash matches the hash of the rpId, without copying the precomputed hash.
+     *
+     * @param rpIdHash rpIdHash to compare
+     * @return true if the hash matches
+     */
+    public boolean isHashMatched(@Nullable byte[] rpIdHash) {
+        // As rpIdHash is known data to client side(potential attacker) because it is calculated from parts of a message,
+        // there is no need to prevent timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
+        return Arrays.equals(rpIdHash, hash);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RpId that = (RpId) o;
+        return value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
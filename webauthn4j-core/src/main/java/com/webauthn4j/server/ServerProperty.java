@@ -68,6 +68,32 @@ public class ServerProperty extends CoreServerProperty {
         this.tokenBindingId = tokenBindingId;
     }
 
+    /**
+     * @param origin         origin
+     * @param rpId           rpId with its precomputed hash, which can be shared across ceremonies
+     * @param challenge      challenge
+     * @param tokenBindingId tokenBindingId
+     */
+    public ServerProperty(@NotNull Origin origin, @NotNull RpId rpId, @Nullable Challenge challenge, @Nullable byte[] tokenBindingId) {
+        super(rpId, challenge);
+        AssertUtil.notNull(origin, "origin must not be null");
+        this.origins = Collections.singleton(origin);
+        this.tokenBindingId = tokenBindingId;
+    }
+
+    /**
+     * @param origins        origins
+     * @param rpId           rpId with its precomputed hash, which can be shared across ceremonies
+     * @param challenge      challenge
+     * @param tokenBindingId tokenBindingId
+     */
+    public ServerProperty(@NotNull Set<Origin> origins, @NotNull RpId rpId, @Nullable Challenge challenge, @Nullable byte[] tokenBindingId) {
+        super(rpId, challenge);
+        AssertUtil.notNull(origins, "origins must not be null");
+        this.origins = Collections.unmodifiableSet(origins);
+        this.tokenBindingId = tokenBindingId;
+    }
+
     /**
      * @param origin         origin
      * @param rpId           rpId
@@ -39,7 +39,7 @@ public class AuthenticationObject extends CoreAuthenticationObject {
             @NotNull ServerProperty serverProperty,
             @NotNull Authenticator authenticator) {
 
-        super(credentialId, authenticatorData, authenticatorDataBytes, MessageDigestUtil.createSHA256().digest(collectedClientDataBytes), serverProperty, authenticator);
+        super(credentialId, authenticatorData, authenticatorDataBytes, MessageDigestUtil.getSHA256().digest(collectedClientDataBytes), serverProperty, authenticator);
 
         AssertUtil.notNull(collectedClientData, "collectedClientData must not be null");
         AssertUtil.notNull(collectedClientDataBytes, "collectedClientDataBytes must not be null");
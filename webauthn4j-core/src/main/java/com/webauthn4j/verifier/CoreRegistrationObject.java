@@ -26,6 +26,7 @@ import com.webauthn4j.util.AssertUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Objects;
@@ -39,6 +40,8 @@ public class CoreRegistrationObject {
     private final byte[] clientDataHash;
     private final CoreServerProperty serverProperty;
     private final Instant timestamp;
+    // authenticatorData extracted from attestationObjectBytes, lazily initialized as it requires CBOR parsing
+    private transient volatile byte[] authenticatorDataBytes;
 
     public CoreRegistrationObject(
             @NotNull AttestationObject attestationObject,
@@ -82,13 +85,31 @@ public class CoreRegistrationObject {
     }
 
     public @NotNull byte[] getAuthenticatorDataBytes() {
-        return extractAuthenticatorData(attestationObjectBytes);
+        return getAuthenticatorDataBytesInternal().clone();
+    }
+
+    /**
+     * Returns a read-only view of authenticatorData bytes. Unlike {@link #getAuthenticatorDataBytes()}, the underlying array is not copied.
+     *
+     * @return read-only view of authenticatorData bytes
+     */
+    public @NotNull ByteBuffer getAuthenticatorDataByteBuffer() {
+        return ByteBuffer.wrap(getAuthenticatorDataBytesInternal()).asReadOnlyBuffer();
     }
 
     public @NotNull byte[] getClientDataHash() {
         return clientDataHash;
     }
 
+    /**
+     * Returns a read-only view of clientDataHash.
+     *
+     * @return read-only view of clientDataHash
+     */
+    public @NotNull ByteBuffer getClientDataHashByteBuffer() {
+        return ByteBuffer.wrap(clientDataHash).asReadOnlyBuffer();
+    }
+
     public @NotNull CoreServerProperty getServerProperty() {
         return serverProperty;
     }
@@ -97,6 +118,15 @@ public class CoreRegistrationObject {
         return timestamp;
     }
 
+    private @NotNull byte[] getAuthenticatorDataBytesInternal() {
+        byte[] bytes = this.authenticatorDataBytes;
+        if (bytes == null) {
+            bytes = extractAuthenticatorData(attestationObjectBytes);
+            this.authenticatorDataBytes = bytes;
+        }
+        return bytes;
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) return true;
@@ -60,7 +60,7 @@ public class RegistrationObject extends CoreRegistrationObject {
             @NotNull ServerProperty serverProperty,
             @NotNull Instant timestamp) {
 
-        super(attestationObject, attestationObjectBytes, MessageDigestUtil.createSHA256().digest(collectedClientDataBytes), serverProperty, timestamp);
+        super(attestationObject, attestationObjectBytes, MessageDigestUtil.getSHA256().digest(collectedClientDataBytes), serverProperty, timestamp);
 
         AssertUtil.notNull(collectedClientData, "collectedClientData must not be null");
         AssertUtil.notNull(collectedClientDataBytes, "collectedClientDataBytes must not be null");
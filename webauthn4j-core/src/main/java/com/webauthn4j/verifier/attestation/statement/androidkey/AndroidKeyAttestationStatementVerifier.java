@@ -98,7 +98,7 @@ public class AndroidKeyAttestationStatementVerifier extends AbstractStatementVer
         try {
             String jcaName;
             jcaName = getJcaName(attestationStatement.getAlg());
-            Signature verifier = SignatureUtil.createSignature(jcaName);
+            Signature verifier = SignatureUtil.getSignature(jcaName);
             verifier.initVerify(publicKey);
             verifier.update(signedData);
             if (verifier.verify(signature)) {
@@ -25,6 +25,7 @@ import com.webauthn4j.verifier.exception.KeyDescriptionValidationException;
 import com.webauthn4j.verifier.internal.asn1.ASN1;
 import com.webauthn4j.verifier.internal.asn1.ASN1Primitive;
 import com.webauthn4j.verifier.internal.asn1.ASN1Structure;
+import com.webauthn4j.verifier.internal.asn1.ASN1Tag;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -168,13 +169,9 @@ public class KeyDescriptionVerifier {
     }
 
     private @Nullable ASN1 findAuthorizationListEntry(@NotNull ASN1Structure authorizationList, int tag) {
-        for (ASN1 listItem : authorizationList) {
-            ASN1Structure entry = (ASN1Structure)listItem;
-            if (entry.getTag().getNumber() == tag) {
-                return entry.get(0);
-            }
-        }
-        return null;
+        // AuthorizationList entries are explicitly tagged with their Keymaster tag number
+        ASN1Structure entry = (ASN1Structure) authorizationList.find(ASN1Tag.ASN1TagClass.CONTEXT_SPECIFIC, tag);
+        return entry == null ? null : entry.get(0);
     }
 
 
@@ -79,7 +79,7 @@ public class AppleAnonymousAttestationStatementVerifier extends AbstractStatemen
         byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
         byte[] clientDataHash = registrationObject.getClientDataHash();
         byte[] nonceToHash = ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
-        return MessageDigestUtil.createSHA256().digest(nonceToHash);
+        return MessageDigestUtil.getSHA256().digest(nonceToHash);
     }
 
     private void verifyPublicKey(@NotNull CoreRegistrationObject registrationObject, @NotNull AppleAnonymousAttestationStatement attestationStatement) {
@@ -33,7 +33,6 @@ import com.webauthn4j.verifier.exception.BadSignatureException;
 import com.webauthn4j.verifier.internal.asn1.ASN1Primitive;
 import org.jetbrains.annotations.NotNull;
 
-import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
 import java.security.PublicKey;
 import java.security.Signature;
@@ -59,14 +58,13 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
         verifyAttestationStatementNotNull(attestationStatement);
         byte[] sig = attestationStatement.getSig();
         COSEAlgorithmIdentifier alg = attestationStatement.getAlg();
-        byte[] attrToBeSigned = getAttToBeSigned(registrationObject);
         // If x5c is present,
         if (attestationStatement.getX5c() != null) {
-            return verifyX5c(registrationObject, attestationStatement, sig, alg, attrToBeSigned);
+            return verifyX5c(registrationObject, attestationStatement, sig, alg);
         }
         // If x5c is not present, self attestation is in use.
         else {
-            return verifySelfAttestation(registrationObject, sig, alg, attrToBeSigned);
+            return verifySelfAttestation(registrationObject, sig, alg);
         }
     }
 
@@ -78,14 +76,14 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
     }
 
     @SuppressWarnings("SameReturnValue")
-    private @NotNull AttestationType verifyX5c(@NotNull CoreRegistrationObject registrationObject, @NotNull PackedAttestationStatement attestationStatement, @NotNull byte[] sig, @NotNull COSEAlgorithmIdentifier alg, @NotNull byte[] attrToBeSigned) {
+    private @NotNull AttestationType verifyX5c(@NotNull CoreRegistrationObject registrationObject, @NotNull PackedAttestationStatement attestationStatement, @NotNull byte[] sig, @NotNull COSEAlgorithmIdentifier alg) {
         if (attestationStatement.getX5c() == null || attestationStatement.getX5c().isEmpty()) {
             throw new BadAttestationStatementException("No attestation certificate is found in packed attestation statement.");
         }
 
         // Verify that sig is a valid signature over the concatenation of authenticatorData and clientDataHash
         // using the attestation public key in x5c with the algorithm specified in alg.
-        if (!verifySignature(attestationStatement.getX5c().getEndEntityAttestationCertificate().getCertificate().getPublicKey(), alg, sig, attrToBeSigned)) {
+        if (!verifySignature(attestationStatement.getX5c().getEndEntityAttestationCertificate().getCertificate().getPublicKey(), alg, sig, registrationObject)) {
             throw new BadSignatureException("`sig` in attestation statement is not valid signature over the concatenation of authenticatorData and clientDataHash.");
         }
         // Verify that x5c meets the requirements in §8.2.1 Packed attestation statement certificate requirements.
@@ -112,7 +110,7 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
                 return AAGUID.NULL;
             }
             ASN1Primitive envelope = ASN1Primitive.parse(extensionValue);
-            ASN1Primitive innerEnvelope = ASN1Primitive.parse(envelope.getValue());
+            ASN1Primitive innerEnvelope = envelope.getValueAsASN1Primitive();
             return new AAGUID(UUIDUtil.fromBytes(innerEnvelope.getValue()));
         } catch (RuntimeException e) {
             throw new BadAttestationStatementException("Failed to extract aaguid from Packed attestation statement.", e);
@@ -120,7 +118,7 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
     }
 
     @SuppressWarnings("SameReturnValue")
-    private @NotNull AttestationType verifySelfAttestation(@NotNull CoreRegistrationObject registrationObject, @NotNull byte[] sig, @NotNull COSEAlgorithmIdentifier alg, @NotNull byte[] attrToBeSigned) {
+    private @NotNull AttestationType verifySelfAttestation(@NotNull CoreRegistrationObject registrationObject, @NotNull byte[] sig, @NotNull COSEAlgorithmIdentifier alg) {
         //noinspection ConstantConditions as null check is already done in caller
         COSEKey coseKey = registrationObject.getAttestationObject().getAuthenticatorData().getAttestedCredentialData().getCOSEKey();
         // Verify that alg matches the algorithm of the coseKey in authenticatorData.
@@ -130,7 +128,7 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
         }
         // Verify that sig is a valid signature over the concatenation of authenticatorData and clientDataHash using the credential public key with alg.
         //noinspection ConstantConditions as null check is already done in caller
-        if (!verifySignature(coseKey.getPublicKey(), alg, sig, attrToBeSigned)) {
+        if (!verifySignature(coseKey.getPublicKey(), alg, sig, registrationObject)) {
             throw new BadSignatureException("`sig` in attestation statement is not valid signature over the concatenation of authenticatorData and clientDataHash.");
         }
         // If successful, return attestation type Self and empty attestation trust path.
@@ -138,12 +136,14 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
     }
 
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
-    private boolean verifySignature(@NotNull PublicKey publicKey, @NotNull COSEAlgorithmIdentifier algorithmIdentifier, @NotNull byte[] signature, @NotNull byte[] data) {
+    private boolean verifySignature(@NotNull PublicKey publicKey, @NotNull COSEAlgorithmIdentifier algorithmIdentifier, @NotNull byte[] signature, @NotNull CoreRegistrationObject registrationObject) {
         try {
             String jcaName = getJcaName(algorithmIdentifier);
-            Signature verifier = SignatureUtil.createSignature(jcaName);
+            Signature verifier = SignatureUtil.getSignature(jcaName);
             verifier.initVerify(publicKey);
-            verifier.update(data);
+            // attToBeSigned is the concatenation of authenticatorData and clientDataHash. Both are streamed without concatenation.
+            verifier.update(registrationObject.getAuthenticatorDataByteBuffer());
+            verifier.update(registrationObject.getClientDataHashByteBuffer());
 
             return verifier.verify(signature);
         } catch (SignatureException | InvalidKeyException | RuntimeException e) {
@@ -151,10 +151,4 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
         }
     }
 
-    private @NotNull byte[] getAttToBeSigned(@NotNull CoreRegistrationObject registrationObject) {
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        return ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
-    }
-
 }
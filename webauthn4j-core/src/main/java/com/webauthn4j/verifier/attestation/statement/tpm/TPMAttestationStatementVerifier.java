@@ -106,7 +106,7 @@ public class TPMAttestationStatementVerifier extends AbstractStatementVerifier<T
         String algJcaName;
         algJcaName = getAlgJcaName(hashAlg);
 
-        byte[] pubAreaDigest = MessageDigestUtil.createMessageDigest(algJcaName).digest(pubArea.getBytes());
+        byte[] pubAreaDigest = MessageDigestUtil.getMessageDigest(algJcaName).digest(pubArea.getBytes());
         // As pubAreaDigest is known data to client side(potential attacker) because it is calculated from parts of a message,
         // there is no need to prevent timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
         if (!Arrays.equals(pubAreaDigest, certifyInfo.getName().getDigest())) {
@@ -149,7 +149,7 @@ public class TPMAttestationStatementVerifier extends AbstractStatementVerifier<T
      * Calculate message digest. If alg is null, original data is returned.
      */
     private byte[] calcMessageDigest(byte[] data, MessageDigestAlgorithm alg) {
-        return alg.createMessageDigestObject().digest(data);
+        return MessageDigestUtil.getMessageDigest(alg.getJcaName()).digest(data);
     }
 
     private void verifyX5c(TPMAttestationStatement attestationStatement, TPMSAttest certInfo, AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData) {
@@ -158,7 +158,7 @@ public class TPMAttestationStatementVerifier extends AbstractStatementVerifier<T
 
         /// Verify the sig is a valid signature over certInfo using the attestation public key in aikCert with the algorithm specified in alg.
         String jcaName = getJcaName(attestationStatement.getAlg());
-        Signature certInfoSignature = SignatureUtil.createSignature(jcaName);
+        Signature certInfoSignature = SignatureUtil.getSignature(jcaName);
         try {
             certInfoSignature.initVerify(aikCert.getPublicKey());
             certInfoSignature.update(certInfo.getBytes());
@@ -23,7 +23,7 @@ import com.webauthn4j.data.attestation.statement.AttestationType;
 import com.webauthn4j.data.attestation.statement.FIDOU2FAttestationStatement;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.ECUtil;
-import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.SignatureUtil;
 import com.webauthn4j.verifier.CoreRegistrationObject;
 import com.webauthn4j.verifier.attestation.statement.AbstractStatementVerifier;
 import com.webauthn4j.verifier.exception.BadAttestationStatementException;
@@ -32,7 +32,6 @@ import com.webauthn4j.verifier.exception.CertificateException;
 import org.jetbrains.annotations.NotNull;
 
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.security.*;
 import java.security.cert.Certificate;
 import java.security.interfaces.ECPublicKey;
@@ -93,31 +92,26 @@ public class FIDOU2FAttestationStatementVerifier extends AbstractStatementVerifi
         PublicKey publicKey = getPublicKey(attestationStatement);
 
         try {
-            Signature verifier = Signature.getInstance("SHA256withECDSA");
+            Signature verifier = SignatureUtil.getSignature("SHA256withECDSA");
             verifier.initVerify(publicKey);
             verifier.update(signedData);
             if (verifier.verify(signature)) {
                 return;
             }
             throw new BadSignatureException("`sig` in attestation statement is not valid signature. Please refer U2F Raw Message Formats. https://fidoalliance.org/specs/fido-u2f-v1.1-id-20160915/fido-u2f-raw-message-formats-v1.1-id-20160915.html");
-        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException e) {
+        } catch (SignatureException | InvalidKeyException e) {
             throw new BadSignatureException("`sig` in attestation statement is not valid signature. Please refer U2F Raw Message Formats. https://fidoalliance.org/specs/fido-u2f-v1.1-id-20160915/fido-u2f-raw-message-formats-v1.1-id-20160915.html");
         }
     }
 
     private byte[] getSignedData(@NotNull CoreRegistrationObject registrationObject) {
 
-        String rpId = registrationObject.getServerProperty().getRpId();
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
-
         AttestationObject attestationObject = registrationObject.getAttestationObject();
         //noinspection ConstantConditions as null check is already done in caller
         EC2COSEKey credentialPublicKey =
                 (EC2COSEKey) attestationObject.getAuthenticatorData().getAttestedCredentialData().getCOSEKey();
 
-        byte[] rpIdBytes = rpId.getBytes(StandardCharsets.UTF_8);
-
-        byte[] applicationParameter = messageDigest.digest(rpIdBytes);
+        byte[] applicationParameter = registrationObject.getServerProperty().getRpIdHash();
         byte[] challengeParameter = registrationObject.getClientDataHash();
         byte[] keyHandle = attestationObject.getAuthenticatorData().getAttestedCredentialData().getCredentialId();
         byte[] userPublicKeyBytes = getPublicKeyBytes(credentialPublicKey);
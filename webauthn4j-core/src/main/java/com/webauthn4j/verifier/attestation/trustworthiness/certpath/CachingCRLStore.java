@@ -0,0 +1,477 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier.attestation.trustworthiness.certpath;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.util.HexUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.exception.UnexpectedCheckedException;
+import com.webauthn4j.verifier.internal.asn1.ASN1;
+import com.webauthn4j.verifier.internal.asn1.ASN1Primitive;
+import com.webauthn4j.verifier.internal.asn1.ASN1Structure;
+import com.webauthn4j.verifier.internal.asn1.ASN1Tag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.cert.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local CRL store for revocation checks. CRLs are fetched from registered CRL distribution points or loaded from local
+ * files, and served to the PKIX revocation checker through {@link #getCertStore()}.
+ * <p>
+ * Network access is confined to {@link #refresh()}, which is meant to be called at startup and periodically from a
+ * scheduled task. It fetches the CRLs of registered distribution points which are missing or reach their nextUpdate
+ * within the refresh window. The verification path only reads the store, see
+ * {@link #configure(CertPathValidator, PKIXParameters)}. A distribution point whose fetch failed is not retried
+ * until its backoff has elapsed; the backoff doubles on every consecutive failure.
+ * <p>
+ * Distribution points are registered explicitly with {@link #addDistributionPoint(String)}, or taken from
+ * certificates configured by the application, typically trust anchors and intermediate CA certificates, with
+ * {@link #addDistributionPoints(Collection)}. Never register distribution points taken from certificates submitted by
+ * clients, such as an attestation certificate chain, as it would let clients make the server fetch arbitrary URLs.
+ * The number of distribution points is bounded by {@link #setMaxDistributionPoints(int) maxDistributionPoints}.
+ * <p>
+ * When a cache directory is configured, fetched CRLs are persisted there and reused across restarts.
+ * CRL signatures are not verified by this store; the PKIX revocation checker verifies them against the certificate path.
+ */
+public class CachingCRLStore {
+
+    private static final String CRL_DISTRIBUTION_POINTS_OID = "2.5.29.31";
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+    private static final int READ_TIMEOUT_MILLIS = 30_000;
+    private static final int MAX_CRL_SIZE = 16 * 1024 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(CachingCRLStore.class);
+
+    private final Fetcher fetcher;
+    // keyed by distribution point URI for fetched CRLs, or by file URI for CRLs loaded from local files
+    private final Map<String, X509CRL> crls = new ConcurrentHashMap<>();
+    private final Set<String> distributionPoints = ConcurrentHashMap.newKeySet();
+    private final Map<String, CompletableFuture<Void>> inflightFetches = new ConcurrentHashMap<>();
+    private final Map<String, FailureState> failureStates = new ConcurrentHashMap<>();
+    private final CertStore certStore;
+
+    private volatile Path cacheDirectory;
+    private volatile Duration refreshWindow = Duration.ofHours(1);
+    private volatile Duration retryInitialBackoff = Duration.ofMinutes(1);
+    private volatile Duration retryMaxBackoff = Duration.ofHours(1);
+    private volatile int maxDistributionPoints = 256;
+
+    public CachingCRLStore() {
+        this(CachingCRLStore::fetchWithURLConnection);
+    }
+
+    public CachingCRLStore(@NotNull Fetcher fetcher) {
+        AssertUtil.notNull(fetcher, "fetcher must not be null");
+        this.fetcher = fetcher;
+        try {
+            // Collection CertStore doesn't copy the collection, so the store reflects later updates of the map
+            this.certStore = CertStore.getInstance("Collection", new CollectionCertStoreParameters(crls.values()));
+        } catch (GeneralSecurityException e) {
+            throw new UnexpectedCheckedException(e);
+        }
+    }
+
+    /**
+     * Registers the CRL distribution points of certificates configured by the application, typically trust anchors
+     * and intermediate CA certificates. Don't pass certificates submitted by clients. A CRL persisted in the cache
+     * directory is loaded for each new distribution point; nothing is fetched until {@link #refresh()}.
+     *
+     * @param certificates trusted certificates
+     */
+    public void addDistributionPoints(@NotNull Collection<? extends Certificate> certificates) {
+        AssertUtil.notNull(certificates, "certificates must not be null");
+        for (Certificate certificate : certificates) {
+            if (certificate instanceof X509Certificate) {
+                extractDistributionPoints((X509Certificate) certificate).forEach(this::addDistributionPoint);
+            }
+        }
+    }
+
+    /**
+     * Registers a CRL distribution point. A CRL persisted in the cache directory is loaded for a new distribution point;
+     * nothing is fetched until {@link #refresh()}.
+     *
+     * @param distributionPoint http or https URI of the distribution point
+     * @return false if the distribution point is not registered as {@link #getMaxDistributionPoints()} is reached
+     */
+    public boolean addDistributionPoint(@NotNull String distributionPoint) {
+        AssertUtil.notNull(distributionPoint, "distributionPoint must not be null");
+        AssertUtil.isTrue(isSupportedURI(distributionPoint), "distributionPoint must be an http or https URI");
+        if (distributionPoints.contains(distributionPoint)) {
+            return true;
+        }
+        synchronized (distributionPoints) {
+            if (!distributionPoints.contains(distributionPoint)) {
+                if (distributionPoints.size() >= maxDistributionPoints) {
+                    logger.warn("CRL distribution point {} is not registered, as {} distribution points are already registered", distributionPoint, maxDistributionPoints);
+                    return false;
+                }
+                distributionPoints.add(distributionPoint);
+            }
+        }
+        getOrLoadPersisted(distributionPoint);
+        return true;
+    }
+
+    public @NotNull Set<String> getDistributionPoints() {
+        return Collections.unmodifiableSet(distributionPoints);
+    }
+
+    /**
+     * Fetches the CRLs of registered distribution points which are missing, or whose nextUpdate has passed or falls
+     * within the refresh window. Distribution points backing off from a failed fetch are skipped. Failures are logged
+     * and don't interrupt the refresh of the other distribution points. Concurrent refreshes of the same distribution
+     * point are coalesced.
+     */
+    public void refresh() {
+        Instant now = Instant.now();
+        Instant threshold = now.plus(refreshWindow);
+        for (String distributionPoint : distributionPoints) {
+            X509CRL crl = getOrLoadPersisted(distributionPoint);
+            if (crl == null || !isFresh(crl, threshold)) {
+                fetch(distributionPoint, now);
+            }
+        }
+    }
+
+    /**
+     * Adds a CRL obtained out of band.
+     *
+     * @param crl CRL
+     */
+    public void addCRL(@NotNull X509CRL crl) {
+        AssertUtil.notNull(crl, "crl must not be null");
+        crls.put("crl:" + HexUtil.encodeToString(MessageDigestUtil.getSHA256().digest(getEncoded(crl))), crl);
+    }
+
+    /**
+     * Loads CRLs from a local DER or PEM file. Loading the same file again replaces the CRLs previously loaded from it.
+     *
+     * @param path CRL file path
+     */
+    public void loadFile(@NotNull Path path) {
+        AssertUtil.notNull(path, "path must not be null");
+        Collection<? extends CRL> loaded;
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            loaded = CertificateUtil.createCertificateFactory().generateCRLs(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (CRLException e) {
+            throw new IllegalArgumentException("Failed to parse CRL file " + path, e);
+        }
+        String key = path.toUri().toString();
+        crls.keySet().removeIf(item -> item.startsWith(key + "#"));
+        int index = 0;
+        for (CRL crl : loaded) {
+            crls.put(key + "#" + index++, (X509CRL) crl);
+        }
+    }
+
+    /**
+     * Returns a {@link CertStore} backed by this store, to be added to {@link PKIXParameters}.
+     *
+     * @return {@link CertStore}
+     */
+    public @NotNull CertStore getCertStore() {
+        return certStore;
+    }
+
+    /**
+     * Configures the PKIX parameters to check revocation with the CRLs of this store, preferring CRLs to OCSP
+     * without falling back to OCSP. It doesn't access the network; certificates whose CRL is not in the store fail
+     * the revocation check.
+     *
+     * @param certPathValidator  validator whose revocation checker is used
+     * @param certPathParameters parameters to configure
+     */
+    public void configure(@NotNull CertPathValidator certPathValidator, @NotNull PKIXParameters certPathParameters) {
+        certPathParameters.addCertStore(certStore);
+        PKIXRevocationChecker pkixRevocationChecker = (PKIXRevocationChecker) certPathValidator.getRevocationChecker();
+        pkixRevocationChecker.setOptions(EnumSet.of(PKIXRevocationChecker.Option.PREFER_CRLS, PKIXRevocationChecker.Option.NO_FALLBACK));
+        certPathParameters.addCertPathChecker(pkixRevocationChecker);
+    }
+
+    public @NotNull List<X509CRL> getCRLs() {
+        return Collections.unmodifiableList(new ArrayList<>(crls.values()));
+    }
+
+    public @Nullable Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    /**
+     * Sets the directory to persist fetched CRLs to.
+     *
+     * @param cacheDirectory cache directory, or null to disable the disk cache
+     */
+    public void setCacheDirectory(@Nullable Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    public @NotNull Duration getRefreshWindow() {
+        return refreshWindow;
+    }
+
+    /**
+     * Sets how long before their nextUpdate CRLs are re-fetched by {@link #refresh()}.
+     *
+     * @param refreshWindow refresh window
+     */
+    public void setRefreshWindow(@NotNull Duration refreshWindow) {
+        AssertUtil.notNull(refreshWindow, "refreshWindow must not be null");
+        this.refreshWindow = refreshWindow;
+    }
+
+    public @NotNull Duration getRetryInitialBackoff() {
+        return retryInitialBackoff;
+    }
+
+    /**
+     * Sets how long a distribution point is not fetched again after a failed fetch. It doubles on every consecutive
+     * failure, up to {@link #getRetryMaxBackoff()}.
+     *
+     * @param retryInitialBackoff initial backoff
+     */
+    public void setRetryInitialBackoff(@NotNull Duration retryInitialBackoff) {
+        AssertUtil.notNull(retryInitialBackoff, "retryInitialBackoff must not be null");
+        this.retryInitialBackoff = retryInitialBackoff;
+    }
+
+    public @NotNull Duration getRetryMaxBackoff() {
+        return retryMaxBackoff;
+    }
+
+    public void setRetryMaxBackoff(@NotNull Duration retryMaxBackoff) {
+        AssertUtil.notNull(retryMaxBackoff, "retryMaxBackoff must not be null");
+        this.retryMaxBackoff = retryMaxBackoff;
+    }
+
+    public int getMaxDistributionPoints() {
+        return maxDistributionPoints;
+    }
+
+    /**
+     * Sets the maximum number of registered distribution points, which bounds the CRLs held in memory and persisted
+     * to the cache directory.
+     *
+     * @param maxDistributionPoints maximum number of distribution points
+     */
+    public void setMaxDistributionPoints(int maxDistributionPoints) {
+        AssertUtil.isTrue(maxDistributionPoints > 0, "maxDistributionPoints must be positive");
+        this.maxDistributionPoints = maxDistributionPoints;
+    }
+
+    private @Nullable X509CRL getOrLoadPersisted(@NotNull String distributionPoint) {
+        X509CRL cached = crls.get(distributionPoint);
+        if (cached != null) {
+            return cached;
+        }
+        Path cacheFile = getCacheFile(distributionPoint);
+        if (cacheFile == null || !Files.exists(cacheFile)) {
+            return null;
+        }
+        try {
+            X509CRL persisted = parse(Files.readAllBytes(cacheFile));
+            crls.putIfAbsent(distributionPoint, persisted);
+            return crls.get(distributionPoint);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to load cached CRL for {}", distributionPoint, e);
+            return null;
+        }
+    }
+
+    /**
+     * Fetches the CRL unless the distribution point is backing off. A caller finding a fetch of the same distribution
+     * point in flight waits for it instead of starting another one.
+     */
+    private void fetch(@NotNull String distributionPoint, @NotNull Instant now) {
+        FailureState failureState = failureStates.get(distributionPoint);
+        if (failureState != null && now.isBefore(failureState.retryAt)) {
+            return;
+        }
+        CompletableFuture<Void> inflight = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inflightFetches.putIfAbsent(distributionPoint, inflight);
+        if (existing != null) {
+            existing.join();
+            return;
+        }
+        try {
+            byte[] bytes = fetcher.fetch(URI.create(distributionPoint));
+            X509CRL crl = parse(bytes);
+            // a stale CRL is kept; the PKIX revocation checker decides whether it is still acceptable
+            crls.put(distributionPoint, crl);
+            Path cacheFile = getCacheFile(distributionPoint);
+            if (cacheFile != null) {
+                persist(cacheFile, bytes);
+            }
+            if (isFresh(crl, Instant.now())) {
+                failureStates.remove(distributionPoint);
+            } else {
+                recordFailure(distributionPoint, failureState, new IllegalStateException("Fetched CRL is past its nextUpdate"));
+            }
+        } catch (IOException | RuntimeException e) {
+            recordFailure(distributionPoint, failureState, e);
+        } finally {
+            inflightFetches.remove(distributionPoint, inflight);
+            inflight.complete(null);
+        }
+    }
+
+    private void recordFailure(@NotNull String distributionPoint, @Nullable FailureState previous, @NotNull Exception e) {
+        Duration backoff = previous == null ? retryInitialBackoff : min(previous.backoff.multipliedBy(2), retryMaxBackoff);
+        failureStates.put(distributionPoint, new FailureState(Instant.now().plus(backoff), backoff));
+        logger.warn("Failed to fetch CRL from {}. Retrying in {}", distributionPoint, backoff, e);
+    }
+
+    private static Duration min(@NotNull Duration a, @NotNull Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private @Nullable Path getCacheFile(@NotNull String distributionPoint) {
+        Path directory = this.cacheDirectory;
+        if (directory == null) {
+            return null;
+        }
+        byte[] hash = MessageDigestUtil.getSHA256().digest(distributionPoint.getBytes(StandardCharsets.UTF_8));
+        return directory.resolve(HexUtil.encodeToString(hash) + ".crl");
+    }
+
+    private static void persist(@NotNull Path cacheFile, @NotNull byte[] bytes) throws IOException {
+        Files.createDirectories(cacheFile.getParent());
+        Path temp = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+        Files.write(temp, bytes);
+        Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static boolean isFresh(@NotNull X509CRL crl, @NotNull Instant now) {
+        return crl.getNextUpdate() == null || crl.getNextUpdate().toInstant().isAfter(now);
+    }
+
+    private static @NotNull X509CRL parse(@NotNull byte[] bytes) {
+        try {
+            return (X509CRL) CertificateUtil.createCertificateFactory().generateCRL(new ByteArrayInputStream(bytes));
+        } catch (CRLException e) {
+            throw new IllegalArgumentException("Failed to parse CRL", e);
+        }
+    }
+
+    private static @NotNull byte[] getEncoded(@NotNull X509CRL crl) {
+        try {
+            return crl.getEncoded();
+        } catch (CRLException e) {
+            throw new IllegalArgumentException("Failed to encode CRL", e);
+        }
+    }
+
+    static @NotNull List<String> extractDistributionPoints(@NotNull X509Certificate certificate) {
+        byte[] extensionValue = certificate.getExtensionValue(CRL_DISTRIBUTION_POINTS_OID);
+        if (extensionValue == null) {
+            return Collections.emptyList();
+        }
+        List<String> uris = new ArrayList<>();
+        // CRLDistributionPoints ::= SEQUENCE OF DistributionPoint, wrapped in the extension OCTET STRING
+        ASN1Structure distributionPoints = ASN1Primitive.parse(extensionValue).getValueAsASN1Structure();
+        for (ASN1 distributionPoint : distributionPoints) {
+            // distributionPoint [0] DistributionPointName
+            ASN1 distributionPointName = findContextSpecificStructure(distributionPoint, 0);
+            // fullName [0] GeneralNames
+            ASN1 fullName = distributionPointName == null ? null : findContextSpecificStructure(distributionPointName, 0);
+            if (fullName == null) {
+                continue;
+            }
+            for (ASN1 generalName : (ASN1Structure) fullName) {
+                // uniformResourceIdentifier [6] IA5String
+                if (generalName.getTag().getTagClass() == ASN1Tag.ASN1TagClass.CONTEXT_SPECIFIC && generalName.getTag().getNumber() == 6) {
+                    String uri = new String(((ASN1Primitive) generalName).getValue(), StandardCharsets.US_ASCII);
+                    if (isSupportedURI(uri)) {
+                        uris.add(uri);
+                    }
+                }
+            }
+        }
+        return uris;
+    }
+
+    private static boolean isSupportedURI(@NotNull String uri) {
+        return uri.startsWith("http://") || uri.startsWith("https://");
+    }
+
+    private static @Nullable ASN1 findContextSpecificStructure(@NotNull ASN1 parent, int number) {
+        if (!(parent instanceof ASN1Structure)) {
+            return null;
+        }
+        ASN1 child = ((ASN1Structure) parent).find(ASN1Tag.ASN1TagClass.CONTEXT_SPECIFIC, number);
+        return child instanceof ASN1Structure ? child : null;
+    }
+
+    private static @NotNull byte[] fetchWithURLConnection(@NotNull URI uri) throws IOException {
+        HttpURLConnection urlConnection = (HttpURLConnection) uri.toURL().openConnection();
+        urlConnection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        urlConnection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        urlConnection.setInstanceFollowRedirects(false);
+        urlConnection.setRequestMethod("GET");
+        int status = urlConnection.getResponseCode();
+        if (status != HttpURLConnection.HTTP_OK) {
+            throw new IOException("Unexpected status " + status + " from " + uri);
+        }
+        try (InputStream inputStream = urlConnection.getInputStream()) {
+            byte[] bytes = inputStream.readNBytes(MAX_CRL_SIZE + 1);
+            if (bytes.length > MAX_CRL_SIZE) {
+                throw new IOException("CRL from " + uri + " exceeds " + MAX_CRL_SIZE + " bytes");
+            }
+            return bytes;
+        }
+    }
+
+    private static class FailureState {
+        private final Instant retryAt;
+        private final Duration backoff;
+
+        private FailureState(Instant retryAt, Duration backoff) {
+            this.retryAt = retryAt;
+            this.backoff = backoff;
+        }
+    }
+
+    /**
+     * Fetches a CRL from a distribution point.
+     */
+    @FunctionalInterface
+    public interface Fetcher {
+        @NotNull byte[] fetch(@NotNull URI uri) throws IOException;
+    }
+}
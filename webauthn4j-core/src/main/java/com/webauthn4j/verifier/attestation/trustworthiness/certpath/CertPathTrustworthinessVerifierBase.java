@@ -22,19 +22,27 @@ import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.verifier.exception.CertificateException;
 import com.webauthn4j.verifier.exception.TrustAnchorNotFoundException;
+import com.webauthn4j.verifier.internal.CertPathValidationCache;
+import com.webauthn4j.verifier.internal.PKIXParametersTemplateCache;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
 import java.time.Instant;
 import java.util.Date;
+import java.util.List;
 import java.util.Set;
 
 public abstract class CertPathTrustworthinessVerifierBase implements CertPathTrustworthinessVerifier {
 
+    private final PKIXParametersTemplateCache pkixParametersTemplateCache = new PKIXParametersTemplateCache();
+
     private boolean fullChainProhibited = false;
     private boolean revocationCheckEnabled = false;
     private boolean policyQualifiersRejected = false;
+    private CertPathValidationCache validationCache = null;
+    private CachingCRLStore crlStore = null;
 
     public void verify(@NotNull AAGUID aaguid, @NotNull CertificateBaseAttestationStatement attestationStatement, @NotNull Instant timestamp) {
         AssertUtil.notNull(aaguid, "aaguid must not be null");
@@ -51,11 +59,29 @@ public abstract class CertPathTrustworthinessVerifierBase implements CertPathTru
         }
 
         CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
-        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
+        PKIXParameters certPathParameters = pkixParametersTemplateCache.get(trustAnchors);
         certPathParameters.setPolicyQualifiersRejected(policyQualifiersRejected);
 
         certPathParameters.setRevocationEnabled(revocationCheckEnabled);
         certPathParameters.setDate(Date.from(timestamp));
+        CachingCRLStore store = this.crlStore;
+        if (revocationCheckEnabled && store != null) {
+            // CRLs are only read from the local store; the store is refreshed out of the verification path
+            store.configure(certPathValidator, certPathParameters);
+        }
+
+        // reuse a memoized validation of the same intermediate chain
+        CertPathValidationCache cache = revocationCheckEnabled ? null : this.validationCache;
+        List<? extends Certificate> certificates = certPath.getCertificates();
+        if (cache != null) {
+            TrustAnchor cachedTrustAnchor = cache.lookup(certificates, trustAnchors, certPathParameters);
+            if (cachedTrustAnchor != null) {
+                if (fullChainProhibited && certificates.contains(cachedTrustAnchor.getTrustedCert())) {
+                    throw new CertificateException("`certpath` must not contain full chain.");
+                }
+                return;
+            }
+        }
 
         PKIXCertPathValidatorResult result;
         try {
@@ -68,6 +94,9 @@ public abstract class CertPathTrustworthinessVerifierBase implements CertPathTru
         if (fullChainProhibited && certPath.getCertificates().contains(result.getTrustAnchor().getTrustedCert())) {
             throw new CertificateException("`certpath` must not contain full chain.");
         }
+        if (cache != null) {
+            cache.put(certificates, trustAnchors, certPathParameters, result.getTrustAnchor());
+        }
     }
 
     protected abstract @NotNull Set<TrustAnchor> resolveTrustAnchors(@NotNull AAGUID aaguid);
@@ -89,6 +118,21 @@ public abstract class CertPathTrustworthinessVerifierBase implements CertPathTru
         this.revocationCheckEnabled = revocationCheckEnabled;
     }
 
+    public @Nullable CachingCRLStore getCRLStore() {
+        return crlStore;
+    }
+
+    /**
+     * Sets the CRL store used for revocation check. It is only used while revocation check is enabled. The store is
+     * read only; register the distribution points of the trusted certificates and refresh it out of the verification
+     * path, see {@link CachingCRLStore}.
+     *
+     * @param crlStore CRL store, or null to let the default revocation checker fetch revocation information
+     */
+    public void setCRLStore(@Nullable CachingCRLStore crlStore) {
+        this.crlStore = crlStore;
+    }
+
     public boolean isPolicyQualifiersRejected() {
         return policyQualifiersRejected;
     }
@@ -96,4 +140,23 @@ public abstract class CertPathTrustworthinessVerifierBase implements CertPathTru
     public void setPolicyQualifiersRejected(boolean policyQualifiersRejected) {
         this.policyQualifiersRejected = policyQualifiersRejected;
     }
+
+    public int getValidationCacheMaxEntries() {
+        return validationCache == null ? 0 : validationCache.getMaxEntries();
+    }
+
+    /**
+     * Enables memoization of certificate path validation results. When enabled, attestation certificates issued by
+     * an already validated intermediate chain are verified by checking only the leaf signature and validity.
+     * The cache is bypassed while revocation check is enabled. Trust anchor sets are matched by identity,
+     * so the cache only pays off with a repository which hands out the same set until its source changes.
+     *
+     * @param maxEntries maximum number of memoized chains. 0 disables the cache (default).
+     */
+    public void setValidationCacheMaxEntries(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries must not be negative");
+        }
+        this.validationCache = maxEntries == 0 ? null : new CertPathValidationCache(maxEntries);
+    }
 }
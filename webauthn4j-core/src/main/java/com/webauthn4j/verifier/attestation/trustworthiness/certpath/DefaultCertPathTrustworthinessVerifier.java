@@ -25,14 +25,18 @@ import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.verifier.exception.CertificateException;
 import com.webauthn4j.verifier.exception.TrustAnchorNotFoundException;
+import com.webauthn4j.verifier.internal.CertPathValidationCache;
+import com.webauthn4j.verifier.internal.PKIXParametersTemplateCache;
 import com.webauthn4j.verifier.internal.asn1.ASN1Primitive;
 import com.webauthn4j.verifier.internal.asn1.ASN1Structure;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
 import java.time.Instant;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -40,9 +44,13 @@ public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustwort
 
     private final TrustAnchorRepository trustAnchorRepository;
 
+    private final PKIXParametersTemplateCache pkixParametersTemplateCache = new PKIXParametersTemplateCache();
+
     private boolean fullChainProhibited = false;
     private boolean revocationCheckEnabled = false;
     private boolean policyQualifiersRejected = false;
+    private CertPathValidationCache validationCache = null;
+    private CachingCRLStore crlStore = null;
 
     public DefaultCertPathTrustworthinessVerifier(TrustAnchorRepository trustAnchorRepository) {
         this.trustAnchorRepository = trustAnchorRepository;
@@ -78,7 +86,7 @@ public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustwort
         }
 
         CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
-        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
+        PKIXParameters certPathParameters = pkixParametersTemplateCache.get(trustAnchors);
         certPathParameters.setPolicyQualifiersRejected(policyQualifiersRejected);
 
         certPathParameters.setRevocationEnabled(revocationCheckEnabled);
@@ -95,6 +103,25 @@ public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustwort
             }
         }
 
+        CachingCRLStore store = this.crlStore;
+        if (revocationCheckEnabled && store != null) {
+            // CRLs are only read from the local store; the store is refreshed out of the verification path
+            store.configure(certPathValidator, certPathParameters);
+        }
+
+        // or reuse a memoized validation of the same intermediate chain
+        CertPathValidationCache cache = revocationCheckEnabled ? null : this.validationCache;
+        List<? extends Certificate> certificates = certPath.getCertificates();
+        if (cache != null) {
+            TrustAnchor cachedTrustAnchor = cache.lookup(certificates, trustAnchors, certPathParameters);
+            if (cachedTrustAnchor != null) {
+                if (fullChainProhibited && certificates.contains(cachedTrustAnchor.getTrustedCert())) {
+                    throw new CertificateException("`certpath` must not contain full chain.");
+                }
+                return cachedTrustAnchor;
+            }
+        }
+
         // or verify the certificate chain path
         PKIXCertPathValidatorResult result;
         try {
@@ -107,6 +134,9 @@ public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustwort
         if (fullChainProhibited && certPath.getCertificates().contains(result.getTrustAnchor().getTrustedCert())) {
             throw new CertificateException("`certpath` must not contain full chain.");
         }
+        if (cache != null) {
+            cache.put(certificates, trustAnchors, certPathParameters, result.getTrustAnchor());
+        }
         return trustAnchors.stream()
                 .filter(item -> Objects.equals(item, result.getTrustAnchor()))
                 .findFirst().orElseThrow(()-> new IllegalStateException("Matching TrustAnchor is not found."));
@@ -128,6 +158,21 @@ public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustwort
         this.revocationCheckEnabled = revocationCheckEnabled;
     }
 
+    public @Nullable CachingCRLStore getCRLStore() {
+        return crlStore;
+    }
+
+    /**
+     * Sets the CRL store used for revocation check. It is only used while revocation check is enabled. The store is
+     * read only; register the distribution points of the trusted certificates and refresh it out of the verification
+     * path, see {@link CachingCRLStore}.
+     *
+     * @param crlStore CRL store, or null to let the default revocation checker fetch revocation information
+     */
+    public void setCRLStore(@Nullable CachingCRLStore crlStore) {
+        this.crlStore = crlStore;
+    }
+
     public boolean isPolicyQualifiersRejected() {
         return policyQualifiersRejected;
     }
@@ -136,11 +181,30 @@ public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustwort
         this.policyQualifiersRejected = policyQualifiersRejected;
     }
 
+    public int getValidationCacheMaxEntries() {
+        return validationCache == null ? 0 : validationCache.getMaxEntries();
+    }
+
+    /**
+     * Enables memoization of certificate path validation results. When enabled, attestation certificates issued by
+     * an already validated intermediate chain are verified by checking only the leaf signature and validity.
+     * The cache is bypassed while revocation check is enabled. Trust anchor sets are matched by identity,
+     * so the cache only pays off with a repository which hands out the same set until its source changes.
+     *
+     * @param maxEntries maximum number of memoized chains. 0 disables the cache (default).
+     */
+    public void setValidationCacheMaxEntries(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries must not be negative");
+        }
+        this.validationCache = maxEntries == 0 ? null : new CertPathValidationCache(maxEntries);
+    }
+
     public static @NotNull byte[] extractSubjectKeyIdentifier(X509Certificate certificate){
         byte[] publicKeyEncoded = certificate.getPublicKey().getEncoded();
         ASN1Structure sequence = ASN1Structure.parse(publicKeyEncoded);
         ASN1Primitive publicKey = (ASN1Primitive) sequence.get(1);
         byte[] publicKeyBytes = publicKey.getValueAsBitString();
-        return MessageDigestUtil.createMessageDigest("SHA-1").digest(publicKeyBytes);
+        return MessageDigestUtil.getMessageDigest("SHA-1").digest(publicKeyBytes);
     }
 }
@@ -21,6 +21,7 @@ import com.webauthn4j.data.CoreAuthenticationData;
 import com.webauthn4j.data.SignatureAlgorithm;
 import com.webauthn4j.data.attestation.authenticator.COSEKey;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.SignatureUtil;
 import com.webauthn4j.verifier.exception.BadSignatureException;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -36,6 +37,9 @@ public class AssertionSignatureVerifier {
 
     private final Logger logger = LoggerFactory.getLogger(AssertionSignatureVerifier.class);
 
+    // checked once per instance, so that the verification path doesn't pay for the lookup
+    private final boolean signedDataOverridden = isGetSignedDataOverridden(getClass());
+
     // ~ Methods
     // ========================================================================================================
 
@@ -43,37 +47,73 @@ public class AssertionSignatureVerifier {
         AssertUtil.notNull(authenticationData, "authenticationData must not be null");
         AssertUtil.notNull(coseKey, "coseKey must not be null");
 
-        byte[] signedData = getSignedData(authenticationData);
         byte[] signature = authenticationData.getSignature();
-        if (!verifySignature(coseKey, signature, signedData)) {
+        if (!verifySignature(coseKey, signature, authenticationData)) {
             throw new BadSignatureException("Assertion signature is not valid.");
         }
     }
 
+    /**
+     * Returns the signed data as a single array. It is only used for subclasses overriding this method; otherwise,
+     * authenticatorData and clientDataHash are streamed into the verifier without being concatenated.
+     *
+     * @param authenticationData authenticationData
+     * @return signed data
+     * @deprecated override {@link #updateSignedData(Signature, CoreAuthenticationData)} instead
+     */
+    @Deprecated
     protected @NotNull byte[] getSignedData(@NotNull CoreAuthenticationData authenticationData) {
         byte[] rawAuthenticatorData = authenticationData.getAuthenticatorDataBytes();
         byte[] clientDataHash = authenticationData.getClientDataHash();
         return ByteBuffer.allocate(rawAuthenticatorData.length + clientDataHash.length).put(rawAuthenticatorData).put(clientDataHash).array();
     }
 
-    private boolean verifySignature(@NotNull COSEKey coseKey, @NotNull byte[] signature, @NotNull byte[] data) {
+    /**
+     * Feeds the signed data into the verifier. By default, authenticatorData and clientDataHash are streamed without
+     * being copied, unless a subclass overrides {@link #getSignedData(CoreAuthenticationData)}, whose result is passed then.
+     *
+     * @param verifier           verifier initialized for verification
+     * @param authenticationData authenticationData
+     * @throws SignatureException if the verifier is not initialized properly
+     */
+    protected void updateSignedData(@NotNull Signature verifier, @NotNull CoreAuthenticationData authenticationData) throws SignatureException {
+        if (signedDataOverridden) {
+            verifier.update(getSignedData(authenticationData));
+            return;
+        }
+        verifier.update(authenticationData.getAuthenticatorDataByteBuffer());
+        verifier.update(authenticationData.getClientDataHashByteBuffer());
+    }
+
+    private boolean verifySignature(@NotNull COSEKey coseKey, @NotNull byte[] signature, @NotNull CoreAuthenticationData authenticationData) {
         try {
             PublicKey publicKey = coseKey.getPublicKey();
             //noinspection ConstantConditions as null check is already done in caller
             SignatureAlgorithm signatureAlgorithm = coseKey.getAlgorithm().toSignatureAlgorithm();
             String jcaName = signatureAlgorithm.getJcaName();
-            Signature verifier = Signature.getInstance(jcaName);
+            Signature verifier = SignatureUtil.getSignature(jcaName);
             verifier.initVerify(publicKey);
-            verifier.update(data);
+            updateSignedData(verifier, authenticationData);
             return verifier.verify(signature);
         } catch (IllegalArgumentException e) {
             logger.debug("COSE key alg must be signature algorithm.", e);
             return false;
-        } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | RuntimeException e) {
+        } catch (SignatureException | InvalidKeyException | RuntimeException e) {
             logger.debug("Unexpected exception is thrown during signature verification.", e);
             return false;
         }
     }
 
+    private static boolean isGetSignedDataOverridden(@NotNull Class<?> clazz) {
+        for (Class<?> current = clazz; current != AssertionSignatureVerifier.class; current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod("getSignedData", CoreAuthenticationData.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // continue with the superclass
+            }
+        }
+        return false;
+    }
 
 }
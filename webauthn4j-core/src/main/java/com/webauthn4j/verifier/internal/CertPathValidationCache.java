@@ -0,0 +1,233 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier.internal;
+
+import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.PKIXParameters;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes successful PKIX validations of attestation certificate paths.
+ * Attestation certificates of the same authenticator model are usually issued by the same intermediate chain,
+ * so the chain without the leaf is validated once and, on a hit, only the leaf is validated with the issuer as
+ * the trust anchor. The leaf validation is a regular PKIX validation, so algorithm constraints
+ * ({@code jdk.certpath.disabledAlgorithms}), validity, signature and critical extensions are checked just as
+ * in the full validation.
+ * Entries are keyed by the fingerprint of the chain without the leaf, the identity of the trust anchor set and
+ * the policy flags, and they remember the validity window of the chain. Trust anchor sets are weakly referenced,
+ * so replaced sets are not retained by the cache.
+ * Whenever a hit cannot be established, {@link #lookup} returns {@code null} and the caller runs
+ * the full validation, so error reporting is unchanged.
+ */
+public class CertPathValidationCache {
+
+    private static final List<String> PATH_CONSTRAINING_EXTENSIONS = Arrays.asList(
+            "2.5.29.30", // nameConstraints
+            "2.5.29.33", // policyMappings
+            "2.5.29.36", // policyConstraints
+            "2.5.29.54"  // inhibitAnyPolicy
+    );
+
+    private final int maxEntries;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    public CertPathValidationCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the trust anchor of a memoized validation if the certificate path is valid under the parameters,
+     * or {@code null} if the full validation is needed.
+     *
+     * @param certificates   certificate path, leaf first
+     * @param trustAnchors   trust anchors the path is validated against
+     * @param pkixParameters parameters for the full validation. The validation date must be set.
+     * @return memoized trust anchor, or {@code null}
+     */
+    public @Nullable TrustAnchor lookup(@NotNull List<? extends Certificate> certificates, @NotNull Set<TrustAnchor> trustAnchors, @NotNull PKIXParameters pkixParameters) {
+        if (certificates.size() < 2 || !isCacheable(pkixParameters)) {
+            return null;
+        }
+        Key key = createKey(certificates, trustAnchors, pkixParameters.getPolicyQualifiersRejected());
+        if (key == null) {
+            return null;
+        }
+        Entry entry = entries.get(key);
+        Instant timestamp = pkixParameters.getDate().toInstant();
+        if (entry == null || timestamp.isBefore(entry.notBefore) || timestamp.isAfter(entry.notAfter)) {
+            return null;
+        }
+        PKIXParameters leafParameters = (PKIXParameters) entry.leafParametersTemplate.clone();
+        leafParameters.setDate(pkixParameters.getDate());
+        leafParameters.setSigProvider(pkixParameters.getSigProvider());
+        try {
+            CertificateUtil.createCertPathValidator().validate(CertificateUtil.generateCertPath(certificates.subList(0, 1)), leafParameters);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            return null;
+        }
+        return entry.trustAnchor;
+    }
+
+    /**
+     * Memoizes a successful validation of the certificate path. Paths which cannot be checked safely by the leaf alone
+     * are not stored.
+     *
+     * @param certificates   certificate path, leaf first
+     * @param trustAnchors   trust anchors the path was validated against
+     * @param pkixParameters parameters the path was validated with
+     * @param trustAnchor    trust anchor the path was validated to
+     */
+    public void put(@NotNull List<? extends Certificate> certificates, @NotNull Set<TrustAnchor> trustAnchors, @NotNull PKIXParameters pkixParameters, @NotNull TrustAnchor trustAnchor) {
+        if (certificates.size() < 2 || !isCacheable(pkixParameters) || hasPathConstraints(trustAnchor)) {
+            return;
+        }
+        Instant notBefore = Instant.MIN;
+        Instant notAfter = Instant.MAX;
+        for (Certificate certificate : certificates.subList(1, certificates.size())) {
+            X509Certificate x509Certificate = (X509Certificate) certificate;
+            if (hasPathConstraints(x509Certificate)) {
+                return;
+            }
+            Instant certificateNotBefore = x509Certificate.getNotBefore().toInstant();
+            Instant certificateNotAfter = x509Certificate.getNotAfter().toInstant();
+            notBefore = certificateNotBefore.isAfter(notBefore) ? certificateNotBefore : notBefore;
+            notAfter = certificateNotAfter.isBefore(notAfter) ? certificateNotAfter : notAfter;
+        }
+        Key key = createKey(certificates, trustAnchors, pkixParameters.getPolicyQualifiersRejected());
+        if (key == null) {
+            return;
+        }
+        PKIXParameters leafParametersTemplate = CertificateUtil.createPKIXParameters(Collections.singleton(new TrustAnchor((X509Certificate) certificates.get(1), null)));
+        leafParametersTemplate.setRevocationEnabled(false);
+        leafParametersTemplate.setPolicyQualifiersRejected(pkixParameters.getPolicyQualifiersRejected());
+        if (entries.size() >= maxEntries) {
+            entries.keySet().removeIf(Key::isStale);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(notBefore, notAfter, trustAnchor, leafParametersTemplate));
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // parameters the leaf validation cannot reproduce for the whole path bypass the cache
+    private static boolean isCacheable(@NotNull PKIXParameters pkixParameters) {
+        return pkixParameters.getDate() != null
+                && !pkixParameters.isRevocationEnabled()
+                && pkixParameters.getCertPathCheckers().isEmpty()
+                && pkixParameters.getTargetCertConstraints() == null
+                && !pkixParameters.isExplicitPolicyRequired()
+                && !pkixParameters.isPolicyMappingInhibited()
+                && !pkixParameters.isAnyPolicyInhibited()
+                && pkixParameters.getInitialPolicies().isEmpty();
+    }
+
+    private static @Nullable Key createKey(@NotNull List<? extends Certificate> certificates, @NotNull Set<TrustAnchor> trustAnchors, boolean policyQualifiersRejected) {
+        MessageDigest messageDigest = MessageDigestUtil.getSHA256();
+        try {
+            for (Certificate certificate : certificates.subList(1, certificates.size())) {
+                byte[] encoded = certificate.getEncoded();
+                messageDigest.update(ByteBuffer.allocate(Integer.BYTES).putInt(encoded.length).array());
+                messageDigest.update(encoded);
+            }
+        } catch (CertificateEncodingException e) {
+            return null;
+        }
+        return new Key(messageDigest.digest(), trustAnchors, policyQualifiersRejected);
+    }
+
+    private static boolean hasPathConstraints(@NotNull TrustAnchor trustAnchor) {
+        return trustAnchor.getNameConstraints() != null || (trustAnchor.getTrustedCert() != null && hasPathConstraints(trustAnchor.getTrustedCert()));
+    }
+
+    private static boolean hasPathConstraints(@NotNull X509Certificate certificate) {
+        return PATH_CONSTRAINING_EXTENSIONS.stream().anyMatch(oid -> certificate.getExtensionValue(oid) != null);
+    }
+
+    private static class Key {
+        private final byte[] fingerprint;
+        private final WeakReference<Set<TrustAnchor>> trustAnchors;
+        private final boolean policyQualifiersRejected;
+        private final int hashCode;
+
+        private Key(byte[] fingerprint, Set<TrustAnchor> trustAnchors, boolean policyQualifiersRejected) {
+            this.fingerprint = fingerprint;
+            this.trustAnchors = new WeakReference<>(trustAnchors);
+            this.policyQualifiersRejected = policyQualifiersRejected;
+            this.hashCode = 31 * (31 * Arrays.hashCode(fingerprint) + System.identityHashCode(trustAnchors)) + Boolean.hashCode(policyQualifiersRejected);
+        }
+
+        private boolean isStale() {
+            return trustAnchors.get() == null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            // trust anchor sets are compared by identity: repositories hand out a new set when their source is refreshed.
+            // a collected set equals nothing, so its stale entry can never be hit
+            Set<TrustAnchor> referent = trustAnchors.get();
+            return policyQualifiersRejected == key.policyQualifiersRejected && referent != null && referent == key.trustAnchors.get() && Arrays.equals(fingerprint, key.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static class Entry {
+        private final Instant notBefore;
+        private final Instant notAfter;
+        private final TrustAnchor trustAnchor;
+        private final PKIXParameters leafParametersTemplate;
+
+        private Entry(Instant notBefore, Instant notAfter, TrustAnchor trustAnchor, PKIXParameters leafParametersTemplate) {
+            this.notBefore = notBefore;
+            this.notAfter = notAfter;
+            this.trustAnchor = trustAnchor;
+            this.leafParametersTemplate = leafParametersTemplate;
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier.internal;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CertificateUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.security.cert.PKIXParameters;
+import java.security.cert.TrustAnchor;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches {@link PKIXParameters} templates per trust anchor set.
+ * Building {@link PKIXParameters} copies and validates the whole trust anchor set, which is wasted work
+ * when a {@link com.webauthn4j.anchor.TrustAnchorRepository} hands out the same cached set for every registration.
+ * Trust anchor sets are keyed by identity, so a lookup neither hashes nor compares set contents, and entries are
+ * weakly keyed, so they are discarded together with the trust anchor sets they were built from.
+ */
+public class PKIXParametersTemplateCache {
+
+    private final Map<Object, PKIXParameters> templates = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Set<TrustAnchor>> referenceQueue = new ReferenceQueue<>();
+
+    /**
+     * Returns a fresh {@link PKIXParameters} for the trust anchors. The returned instance is a copy of the cached template,
+     * so that the caller can set per-verification parameters like date without affecting other verifications.
+     *
+     * @param trustAnchors trust anchors
+     * @return {@link PKIXParameters}
+     */
+    public @NotNull PKIXParameters get(@NotNull Set<TrustAnchor> trustAnchors) {
+        AssertUtil.notEmpty(trustAnchors, "trustAnchors is required; it must not be empty");
+        PKIXParameters template = templates.get(new LookupKey(trustAnchors));
+        if (template == null) {
+            expungeStaleEntries();
+            // the template holds a copy of the set, so it doesn't keep the weakly referenced key alive
+            template = CertificateUtil.createPKIXParameters(trustAnchors);
+            templates.put(new WeakKey(trustAnchors, referenceQueue), template);
+        }
+        return (PKIXParameters) template.clone();
+    }
+
+    int size() {
+        expungeStaleEntries();
+        return templates.size();
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends Set<TrustAnchor>> reference;
+        while ((reference = referenceQueue.poll()) != null) {
+            templates.remove(reference);
+        }
+    }
+
+    /**
+     * Key stored in the map. Once its referent is collected, it equals only itself, so that it can still be removed.
+     */
+    private static class WeakKey extends WeakReference<Set<TrustAnchor>> {
+
+        private final int hashCode;
+
+        private WeakKey(Set<TrustAnchor> trustAnchors, ReferenceQueue<Set<TrustAnchor>> referenceQueue) {
+            super(trustAnchors, referenceQueue);
+            this.hashCode = System.identityHashCode(trustAnchors);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            Object referent = get();
+            if (referent == null) return false;
+            if (o instanceof WeakKey) return referent == ((WeakKey) o).get();
+            if (o instanceof LookupKey) return referent == ((LookupKey) o).trustAnchors;
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Transient key used for lookups, avoiding the allocation of a {@link WeakReference} on hits.
+     */
+    private static class LookupKey {
+
+        private final Set<TrustAnchor> trustAnchors;
+
+        private LookupKey(Set<TrustAnchor> trustAnchors) {
+            this.trustAnchors = trustAnchors;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o instanceof WeakKey) return trustAnchors == ((WeakKey) o).get();
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(trustAnchors);
+        }
+    }
+
+}
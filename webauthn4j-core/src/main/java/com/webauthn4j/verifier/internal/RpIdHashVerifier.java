@@ -18,14 +18,9 @@ package com.webauthn4j.verifier.internal;
 
 import com.webauthn4j.server.CoreServerProperty;
 import com.webauthn4j.util.AssertUtil;
-import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.verifier.exception.BadRpIdException;
 import org.jetbrains.annotations.NotNull;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.util.Arrays;
-
 /**
  * Verifies the specified rpIdHash
  */
@@ -39,15 +34,7 @@ public class RpIdHashVerifier {
     public static void verify(@NotNull byte[] rpIdHash, @NotNull CoreServerProperty serverProperty) {
         AssertUtil.notNull(rpIdHash, "rpIdHash must not be null");
         AssertUtil.notNull(serverProperty, "serverProperty must not be null");
-        String rpId = serverProperty.getRpId();
-        AssertUtil.notNull(rpId, "rpId must not be null");
-
-        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
-        byte[] relyingPartyRpIdBytes = rpId.getBytes(StandardCharsets.UTF_8);
-        byte[] relyingPartyRpIdHash = messageDigest.digest(relyingPartyRpIdBytes);
-        // As rpIdHash is known data to client side(potential attacker) because it is calculated from parts of a message,
-        // there is no need to prevent timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
-        if (!Arrays.equals(rpIdHash, relyingPartyRpIdHash)) {
+        if (!serverProperty.isRpIdHashMatched(rpIdHash)) {
             throw new BadRpIdException("rpIdHash doesn't match the hash of preconfigured rpId.");
         }
     }
@@ -3,9 +3,9 @@ package com.webauthn4j.verifier.internal.asn1;
 import com.webauthn4j.util.UnsignedNumberUtil;
 
 import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 
 public class ASN1Primitive extends ASN1{
 
@@ -20,7 +20,7 @@ public class ASN1Primitive extends ASN1{
             throw new IllegalArgumentException("non primitive data is provided");
         }
         else {
-            byte[] value = ASN1Primitive.parseValue(byteBuffer, length);
+            ByteBuffer value = ASN1Primitive.sliceValue(byteBuffer, length);
             return new ASN1Primitive(tag, length, value);
         }
     }
@@ -31,42 +31,79 @@ public class ASN1Primitive extends ASN1{
         return buffer;
     }
 
-    private final byte[] value;
+    /**
+     * Returns the value as a slice sharing the content of the given buffer, and advances the buffer past the value.
+     */
+    static ByteBuffer sliceValue(ByteBuffer byteBuffer, ASN1Length length) {
+        int valueLength = length.getValueLength();
+        if (valueLength > byteBuffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        ByteBuffer slice = byteBuffer.slice();
+        slice.limit(valueLength);
+        byteBuffer.position(byteBuffer.position() + valueLength);
+        return slice;
+    }
+
+    // slice of the parsed buffer; never read through directly so that its position stays at the start of the value
+    private final ByteBuffer value;
 
     ASN1Primitive(ASN1Tag tag, ASN1Length length, byte[] value) {
+        this(tag, length, ByteBuffer.wrap(value));
+    }
+
+    ASN1Primitive(ASN1Tag tag, ASN1Length length, ByteBuffer value) {
         super(tag, length);
         this.value = value;
     }
 
     public byte[] getValue() {
-        return value;
+        byte[] bytes = new byte[value.remaining()];
+        value.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Returns a read-only view of the value without copying it.
+     *
+     * @return read-only buffer positioned at the start of the value
+     */
+    public ByteBuffer getValueAsByteBuffer() {
+        return value.asReadOnlyBuffer();
     }
 
     public String getValueAsUtf8String() {
-        return new String(value, StandardCharsets.UTF_8);
+        return StandardCharsets.UTF_8.decode(value.duplicate()).toString();
     }
 
     public byte[] getValueAsBitString() {
-        if(this.value.length == 0){
+        if(!value.hasRemaining()){
             return new byte[0];
         }
-        int unusedBits = UnsignedNumberUtil.getUnsignedByte(value[0]);
-        byte[] cloned = Arrays.copyOfRange(this.value, 1, this.value.length);
-        cloned[cloned.length -1] = (byte)((cloned[cloned.length - 1] >> unusedBits) << unusedBits);
+        ByteBuffer buffer = value.duplicate();
+        int unusedBits = UnsignedNumberUtil.getUnsignedByte(buffer.get());
+        byte[] bits = new byte[buffer.remaining()];
+        buffer.get(bits);
+        if(bits.length > 0){
+            bits[bits.length -1] = (byte)((bits[bits.length - 1] >> unusedBits) << unusedBits);
+        }
 
-        return cloned;
+        return bits;
     }
 
     public BigInteger getValueAsBigInteger() {
-        return new BigInteger(value);
+        if (value.hasArray()) {
+            return new BigInteger(value.array(), value.arrayOffset() + value.position(), value.remaining());
+        }
+        return new BigInteger(getValue());
     }
 
     public ASN1Primitive getValueAsASN1Primitive(){
-        return ASN1Primitive.parse(getValue());
+        return ASN1Primitive.parse(value.duplicate());
     }
 
     public ASN1Structure getValueAsASN1Structure(){
-        return ASN1Structure.parse(getValue());
+        return ASN1Structure.parse(value.duplicate());
     }
 
 }
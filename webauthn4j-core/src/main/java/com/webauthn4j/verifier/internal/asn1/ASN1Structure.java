@@ -1,12 +1,18 @@
 package com.webauthn4j.verifier.internal.asn1;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+/**
+ * Constructed ASN.1 value. Children of a definite-length structure are parsed lazily from a slice of the original buffer
+ * on first access, and {@link #find(ASN1Tag.ASN1TagClass, int)} locates a child by reading only the headers of the preceding ones.
+ */
 public class ASN1Structure extends ASN1 implements Iterable<ASN1>{
 
     public static ASN1Structure parse(byte[] bytes) {
@@ -17,8 +23,7 @@ public class ASN1Structure extends ASN1 implements Iterable<ASN1>{
         ASN1Tag tag = ASN1Tag.parse(byteBuffer);
         ASN1Length length = ASN1Length.parse(byteBuffer);
         if(tag.isConstructed()){
-            List<ASN1> value = ASN1Structure.parseValue(byteBuffer, length);
-            return new ASN1Structure(tag, length, value);
+            return parseStructure(tag, length, byteBuffer);
         }
         else {
             throw new IllegalArgumentException("primitive data is provided");
@@ -36,10 +41,7 @@ public class ASN1Structure extends ASN1 implements Iterable<ASN1>{
             int newObjLength = afterPos - beforePos;
             readLength += newObjLength;
 
-            if (newObj.getTag().getTagClass() == ASN1Tag.ASN1TagClass.UNIVERSAL &&
-                    !newObj.getTag().isConstructed() &&
-                    newObj.getTag().getNumber() == 0 &&
-                    newObj.getLength().getValueLength() == 0) {
+            if (isEndOfContents(newObj.getTag(), newObj.getLength())) {
                 break; // end-of-contents contents (8.1.5)
             }
 
@@ -53,34 +55,108 @@ public class ASN1Structure extends ASN1 implements Iterable<ASN1>{
         ASN1Tag tag = ASN1Tag.parse(byteBuffer);
         ASN1Length length = ASN1Length.parse(byteBuffer);
         if(tag.isConstructed()){
-            List<ASN1> value = ASN1Structure.parseValue(byteBuffer, length);
-            return new ASN1Structure(tag, length, value);
+            return parseStructure(tag, length, byteBuffer);
         }
         else {
-            byte[] value = ASN1Primitive.parseValue(byteBuffer, length);
+            ByteBuffer value = ASN1Primitive.sliceValue(byteBuffer, length);
             return new ASN1Primitive(tag, length, value);
         }
     }
 
+    private static ASN1Structure parseStructure(ASN1Tag tag, ASN1Length length, ByteBuffer byteBuffer) {
+        if (length.isIndefinite()) {
+            // the end of indefinite-length contents is only known by parsing them
+            List<ASN1> value = ASN1Structure.parseValue(byteBuffer, length);
+            return new ASN1Structure(tag, length, value);
+        }
+        return new ASN1Structure(tag, length, ASN1Primitive.sliceValue(byteBuffer, length));
+    }
+
+    private static boolean isEndOfContents(ASN1Tag tag, ASN1Length length) {
+        return tag.getTagClass() == ASN1Tag.ASN1TagClass.UNIVERSAL &&
+                !tag.isConstructed() &&
+                tag.getNumber() == 0 &&
+                length.getValueLength() == 0;
+    }
+
 
-    private final List<ASN1> value;
+    // unparsed contents; null when the children were given or parsed eagerly
+    private final ByteBuffer contents;
+    private volatile List<ASN1> value;
 
     public ASN1Structure(ASN1Tag tag, ASN1Length length, List<ASN1> value) {
         super(tag, length);
+        this.contents = null;
         this.value = value;
     }
 
+    ASN1Structure(ASN1Tag tag, ASN1Length length, ByteBuffer contents) {
+        super(tag, length);
+        this.contents = contents;
+    }
+
     public ASN1 get(int index) {
-        return value.get(index);
+        return getValue().get(index);
     }
 
     public int size() {
-        return value.size();
+        return getValue().size();
     }
 
+    /**
+     * Returns the first child with the given tag, or null if there is none. Children not yet parsed are skipped by their
+     * length without being parsed.
+     *
+     * @param tagClass tag class
+     * @param number   tag number
+     * @return the child, or null
+     */
+    public @Nullable ASN1 find(@NotNull ASN1Tag.ASN1TagClass tagClass, int number) {
+        List<ASN1> children = value;
+        if (children == null) {
+            ByteBuffer buffer = contents.duplicate();
+            while (buffer.hasRemaining()) {
+                int start = buffer.position();
+                ASN1Tag tag = ASN1Tag.parse(buffer);
+                ASN1Length length = ASN1Length.parse(buffer);
+                if (tag.getTagClass() == tagClass && tag.getNumber() == number) {
+                    buffer.position(start);
+                    return parseChild(buffer);
+                }
+                if (isEndOfContents(tag, length)) {
+                    return null;
+                }
+                if (length.isIndefinite()) {
+                    // cannot be skipped without parsing it
+                    children = getValue();
+                    break;
+                }
+                buffer.position(buffer.position() + length.getValueLength());
+            }
+            if (children == null) {
+                return null;
+            }
+        }
+        for (ASN1 child : children) {
+            if (child.getTag().getTagClass() == tagClass && child.getTag().getNumber() == number) {
+                return child;
+            }
+        }
+        return null;
+    }
 
     @Override
     public @NotNull Iterator<ASN1> iterator() {
-        return this.value.iterator();
+        return getValue().iterator();
+    }
+
+    private List<ASN1> getValue() {
+        List<ASN1> children = value;
+        if (children == null) {
+            // racing threads parse the same bytes into equal lists, so no locking is needed
+            children = Collections.unmodifiableList(parseValue(contents.duplicate(), getLength()));
+            value = children;
+        }
+        return children;
     }
 }
@@ -16,13 +16,21 @@
 
 package com.webauthn4j;
 
+import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticationRequest;
+import com.webauthn4j.data.AuthenticationResult;
 import com.webauthn4j.verifier.CustomAuthenticationVerifier;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
 class WebAuthnAuthenticationManagerTest {
@@ -36,5 +44,27 @@ class WebAuthnAuthenticationManagerTest {
         assertThatCode(() -> new WebAuthnAuthenticationManager(customAuthenticationVerifiers, objectConverter)).doesNotThrowAnyException();
     }
 
+    @Test
+    void verifyAll_reports_per_item_failures_in_request_order_test() {
+        WebAuthnAuthenticationManager target = new WebAuthnAuthenticationManager();
+        List<AuthenticationRequest> authenticationRequests = Arrays.asList(
+                new AuthenticationRequest("first".getBytes(StandardCharsets.UTF_8), null, null, null, null),
+                new AuthenticationRequest("second".getBytes(StandardCharsets.UTF_8), null, "{invalid".getBytes(StandardCharsets.UTF_8), null, null),
+                new AuthenticationRequest("third".getBytes(StandardCharsets.UTF_8), null, null, null, null)
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<AuthenticationResult> results = target.verifyAll(authenticationRequests, authenticationData -> {
+                throw new IllegalStateException(new String(authenticationData.getCredentialId(), StandardCharsets.UTF_8));
+            }, executor);
+
+            assertThat(results).hasSize(3).noneMatch(AuthenticationResult::isSuccess);
+            assertThat(results.get(0).getException()).isInstanceOf(IllegalStateException.class).hasMessage("first");
+            assertThat(results.get(1).getException()).isInstanceOf(DataConversionException.class);
+            assertThat(results.get(2).getException()).isInstanceOf(IllegalStateException.class).hasMessage("third");
+        } finally {
+            executor.shutdown();
+        }
+    }
 
-}
\ No newline at end of file
+}
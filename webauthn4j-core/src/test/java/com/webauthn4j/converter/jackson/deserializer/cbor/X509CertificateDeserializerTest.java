@@ -18,6 +18,7 @@ package com.webauthn4j.converter.jackson.deserializer.cbor;
 
 import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.converter.util.X509CertificateCache;
 import com.webauthn4j.test.TestAttestationUtil;
 import org.junit.jupiter.api.Test;
 
@@ -45,6 +46,21 @@ class X509CertificateDeserializerTest {
         assertThat(result.getCertificate()).isInstanceOf(X509Certificate.class);
     }
 
+    @Test
+    void deserialize_with_x509CertificateCache_test() throws CertificateEncodingException {
+        ObjectConverter objectConverter = new ObjectConverter();
+        objectConverter.setX509CertificateCache(new X509CertificateCache(16));
+        CborConverter cborConverter = objectConverter.getCborConverter();
+
+        Map<String, byte[]> source = new HashMap<>();
+        source.put("certificate", TestAttestationUtil.load2tierTestAuthenticatorAttestationCertificate().getEncoded());
+        byte[] input = cborConverter.writeValueAsBytes(source);
+
+        X509CertificateDeserializerTestData result1 = cborConverter.readValue(input, X509CertificateDeserializerTestData.class);
+        X509CertificateDeserializerTestData result2 = cborConverter.readValue(input, X509CertificateDeserializerTestData.class);
+        assertThat(result2.getCertificate()).isSameAs(result1.getCertificate());
+    }
+
     @Test
     void deserialize_empty_byte_array_test() {
         ObjectConverter objectConverter = new ObjectConverter();
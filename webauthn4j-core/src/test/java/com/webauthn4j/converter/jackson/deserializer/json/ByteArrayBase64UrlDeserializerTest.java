@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter.jackson.deserializer.json;
+
+import com.webauthn4j.converter.util.JsonConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for ByteArrayBase64UrlDeserializer
+ */
+class ByteArrayBase64UrlDeserializerTest {
+
+    private final JsonConverter jsonConverter = new ObjectConverter().getJsonConverter();
+
+    @Test
+    void deserialize_test() {
+        assertThat(jsonConverter.readValue("\"AQID_-8\"", byte[].class)).containsExactly(0x01, 0x02, 0x03, 0xFF, 0xEF);
+    }
+
+    @Test
+    void deserialize_padded_value_test() {
+        assertThat(jsonConverter.readValue("\"AQID_-8=\"", byte[].class)).containsExactly(0x01, 0x02, 0x03, 0xFF, 0xEF);
+    }
+
+    @Test
+    void deserialize_from_bytes_test() {
+        assertThat(jsonConverter.readValue("\"AQID\"".getBytes(), byte[].class)).containsExactly(0x01, 0x02, 0x03);
+    }
+
+    @Test
+    void deserialize_invalid_value_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> jsonConverter.readValue("\"AQ+/\"", byte[].class)
+        );
+    }
+
+    @Test
+    void deserialize_value_with_whitespace_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> jsonConverter.readValue("\"AQ ID\"", byte[].class)
+        );
+        assertThrows(IllegalArgumentException.class,
+                () -> jsonConverter.readValue("\"AQID\\n\"", byte[].class)
+        );
+    }
+
+    @Test
+    void deserialize_value_with_non_ascii_character_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> jsonConverter.readValue("\"AQ\u0141D\"", byte[].class)
+        );
+    }
+
+    @Test
+    void deserialize_truncated_value_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> jsonConverter.readValue("\"AQIDB\"", byte[].class)
+        );
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter.util;
+
+import com.webauthn4j.test.TestAttestationUtil;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class X509CertificateCacheTest {
+
+    @Test
+    void get_returns_same_instance_test() throws CertificateEncodingException {
+        X509CertificateCache target = new X509CertificateCache(16);
+        X509Certificate certificate = TestAttestationUtil.loadAndroidKeyIntermediateCertificate();
+
+        X509Certificate first = target.get(certificate.getEncoded());
+        X509Certificate second = target.get(certificate.getEncoded());
+
+        assertThat(first).isEqualTo(certificate);
+        assertThat(second).isSameAs(first);
+        assertThat(target.size()).isEqualTo(1);
+    }
+
+    @Test
+    void size_is_bounded_test() throws CertificateEncodingException {
+        X509CertificateCache target = new X509CertificateCache(2);
+        byte[] intermediate = TestAttestationUtil.loadAndroidKeyIntermediateCertificate().getEncoded();
+        byte[] leaf = TestAttestationUtil.loadAndroidKeyAttestationCertificate().getEncoded();
+        byte[] root = TestAttestationUtil.load3tierTestRootCACertificate().getEncoded();
+
+        X509Certificate cachedIntermediate = target.get(intermediate);
+        target.get(leaf);
+        target.get(intermediate);
+        target.get(root);
+
+        assertThat(target.size()).isEqualTo(2);
+        // the recently used intermediate certificate is retained, and the leaf certificate is evicted
+        assertThat(target.get(intermediate)).isSameAs(cachedIntermediate);
+        assertThat(target.size()).isEqualTo(2);
+    }
+
+    @Test
+    void get_with_invalid_bytes_test() {
+        X509CertificateCache target = new X509CertificateCache(16);
+        byte[] invalid = new byte[]{0x01, 0x02};
+        assertThatThrownBy(() -> target.get(invalid)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void constructor_with_invalid_maxEntries_test() {
+        assertThatThrownBy(() -> new X509CertificateCache(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
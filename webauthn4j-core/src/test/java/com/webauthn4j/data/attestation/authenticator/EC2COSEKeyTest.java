@@ -242,6 +242,12 @@ class EC2COSEKeyTest {
         assertThat(publicKey.getPublicKey()).isNotNull();
     }
 
+    @Test
+    void getPublicKey_returns_cached_instance_test() {
+        EC2COSEKey target = EC2COSEKey.create((ECPublicKey) ECUtil.createKeyPair().getPublic());
+        assertThat(target.getPublicKey()).isSameAs(target.getPublicKey());
+    }
+
     @Test
     void getPrivateKey_test() {
         EC2COSEKey keyPair = EC2COSEKey.create(ECUtil.createKeyPair());
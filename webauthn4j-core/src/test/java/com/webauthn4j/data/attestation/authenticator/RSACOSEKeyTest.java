@@ -168,6 +168,12 @@ class RSACOSEKeyTest {
         assertThat(publicKey.getPublicKey()).isNotNull();
     }
 
+    @Test
+    void getPublicKey_returns_cached_instance_test() {
+        RSACOSEKey target = RSACOSEKey.create((RSAPublicKey) RSAUtil.createKeyPair().getPublic());
+        assertThat(target.getPublicKey()).isSameAs(target.getPublicKey());
+    }
+
     @Test
     void getPrivateKey_test() {
         RSACOSEKey keyPair = RSACOSEKey.create(RSAUtil.createKeyPair());
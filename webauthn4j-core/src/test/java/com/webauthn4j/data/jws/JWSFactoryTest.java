@@ -20,6 +20,7 @@ import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.util.ECUtil;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.util.Collections;
@@ -57,6 +58,34 @@ class JWSFactoryTest {
         assertThatThrownBy(() -> target.create(header, payload, privateKey)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void parse_bytes_test() {
+        JWSHeader header = new JWSHeader(JWAIdentifier.ES256, CertificateUtil.generateCertPath(Collections.emptyList()));
+        Payload payload = new Payload();
+        payload.setDummy("dummy");
+        KeyPair keyPair = ECUtil.createKeyPair();
+        JWS<Payload> jws = target.create(header, payload, keyPair.getPrivate());
+
+        JWS<Payload> parsed = target.parse(jws.getBytes(), Payload.class);
+        assertThat(parsed.getPayload().getDummy()).isEqualTo("dummy");
+        assertThat(parsed.getBytes()).isEqualTo(jws.getBytes());
+        assertThat(parsed).hasToString(jws.toString());
+        assertThat(target.parse(jws.toString(), Payload.class)).hasToString(jws.toString());
+    }
+
+    @Test
+    void parse_bytes_with_invalid_payload_test() {
+        JWSHeader header = new JWSHeader(JWAIdentifier.ES256, CertificateUtil.generateCertPath(Collections.emptyList()));
+        String jws = target.create(header, new Payload(), new byte[32]).toString();
+        byte[] value = (jws.substring(0, jws.indexOf('.')) + ".e*J9.AAAA").getBytes(StandardCharsets.US_ASCII);
+        assertThatThrownBy(() -> target.parse(value, Payload.class)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parse_bytes_without_two_periods_test() {
+        byte[] value = "a.b".getBytes(StandardCharsets.US_ASCII);
+        assertThatThrownBy(() -> target.parse(value, Payload.class)).isInstanceOf(IllegalArgumentException.class);
+    }
 
     private static class Payload {
         private String dummy;
@@ -20,6 +20,7 @@ import com.webauthn4j.data.client.Origin;
 import com.webauthn4j.data.client.challenge.Challenge;
 import com.webauthn4j.data.client.challenge.DefaultChallenge;
 import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.util.MessageDigestUtil;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
@@ -46,7 +47,7 @@ class ServerPropertyTest {
 
         //When
         assertThrows(IllegalArgumentException.class,
-                () -> new ServerProperty(webApp1Origin, null, null, null)
+                () -> new ServerProperty(webApp1Origin, (String) null, null, null)
         );
     }
 
@@ -58,6 +59,39 @@ class ServerPropertyTest {
         assertThatCode(() -> new ServerProperty(webApp1Origin, rpId, challenge)).doesNotThrowAnyException();
     }
 
+    @Test
+    void getRpIdHash_test() {
+        ServerProperty serverProperty = new ServerProperty(webApp1Origin, rpId, null);
+        byte[] expected = MessageDigestUtil.createSHA256().digest(rpId.getBytes(StandardCharsets.UTF_8));
+
+        byte[] rpIdHash = serverProperty.getRpIdHash();
+        assertThat(rpIdHash).isEqualTo(expected);
+        rpIdHash[0] ^= 0x01; // mutating the returned copy must not affect the cached hash
+        assertAll(
+                () -> assertThat(serverProperty.getRpIdHash()).isEqualTo(expected),
+                () -> assertThat(serverProperty.isRpIdHashMatched(expected)).isTrue(),
+                () -> assertThat(serverProperty.isRpIdHashMatched(rpIdHash)).isFalse(),
+                () -> assertThat(serverProperty.isRpIdHashMatched(null)).isFalse()
+        );
+    }
+
+    @Test
+    void constructor_with_shared_rpId_test() {
+        RpId sharedRpId = new RpId(rpId);
+        byte[] expected = MessageDigestUtil.createSHA256().digest(rpId.getBytes(StandardCharsets.UTF_8));
+
+        ServerProperty serverPropertyA = new ServerProperty(webApp1Origin, sharedRpId, new DefaultChallenge(), null);
+        ServerProperty serverPropertyB = new ServerProperty(Collections.singleton(webApp2Origin), sharedRpId, new DefaultChallenge(), null);
+        assertAll(
+                () -> assertThat(sharedRpId.getHash()).isEqualTo(expected),
+                () -> assertThat(serverPropertyA.getRpId()).isEqualTo(rpId),
+                () -> assertThat(serverPropertyA.isRpIdHashMatched(expected)).isTrue(),
+                () -> assertThat(serverPropertyB.getRpIdHash()).isEqualTo(expected),
+                () -> assertThat(new ServerProperty(webApp1Origin, sharedRpId, null, null)).isEqualTo(new ServerProperty(webApp1Origin, rpId, null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ServerProperty(webApp1Origin, (RpId) null, null, null))
+        );
+    }
+
     @Test
     void equals_hashCode_test() {
         Challenge challenge = new DefaultChallenge();
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier.attestation.trustworthiness.certpath;
+
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.util.ECUtil;
+import com.webauthn4j.util.exception.UnexpectedCheckedException;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLDistPoint;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.DistributionPoint;
+import org.bouncycastle.asn1.x509.DistributionPointName;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v2CRLBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.security.auth.x500.X500Principal;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.PrivateKey;
+import java.security.cert.CertPathValidator;
+import java.security.cert.CertPathValidatorException;
+import java.security.cert.CertificateException;
+import java.security.cert.PKIXParameters;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingCRLStoreTest {
+
+    private static final String DISTRIBUTION_POINT = "http://example.com/intermediate.crl";
+
+    private final X509Certificate intermediateCertificate = TestAttestationUtil.load3tierTestIntermediateCACertificate();
+    private final PrivateKey intermediatePrivateKey = TestAttestationUtil.load3tierTestIntermediateCAPrivateKey();
+    private final Instant now = Instant.now();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void loadFile_and_validate_test() throws Exception {
+        CachingCRLStore target = new CachingCRLStore(uri -> {
+            throw new IOException("network access is not expected");
+        });
+        target.loadFile(copyResource("attestation/3tier/crl/3tier-test-root-CA.crl"));
+        Path intermediateCRL = copyResource("attestation/3tier/crl/3tier-test-intermediate-CA.crl");
+        target.loadFile(intermediateCRL);
+        // loading the same file again replaces the previously loaded CRLs
+        target.loadFile(intermediateCRL);
+        assertThat(target.getCRLs()).hasSize(2);
+
+        CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
+        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(
+                CertificateUtil.generateTrustAnchors(Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate())));
+        certPathParameters.setRevocationEnabled(true);
+        target.configure(certPathValidator, certPathParameters);
+
+        assertThatCode(() -> certPathValidator.validate(TestAttestationUtil.load3tierTestAttestationCertificatePath().createCertPath(), certPathParameters))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void addDistributionPoints_without_distribution_points_test() {
+        CachingCRLStore target = new CachingCRLStore(uri -> {
+            throw new IOException("network access is not expected");
+        });
+        target.setCacheDirectory(tempDir);
+        target.addDistributionPoints(Arrays.asList(
+                TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate(),
+                TestAttestationUtil.load3tierTestIntermediateCACertificate()));
+        target.refresh();
+        assertThat(target.getDistributionPoints()).isEmpty();
+        assertThat(target.getCRLs()).isEmpty();
+        assertThat(target.getCacheDirectory()).isEqualTo(tempDir);
+    }
+
+    @Test
+    void extractDistributionPoints_test() {
+        assertThat(CachingCRLStore.extractDistributionPoints(createLeaf(1))).containsExactly(DISTRIBUTION_POINT);
+        assertThat(CachingCRLStore.extractDistributionPoints(intermediateCertificate)).isEmpty();
+    }
+
+    @Test
+    void addDistributionPoints_does_not_fetch_test() {
+        AtomicInteger fetchCount = new AtomicInteger();
+        CachingCRLStore target = new CachingCRLStore(uri -> {
+            fetchCount.incrementAndGet();
+            return createCRL(now.plus(1, ChronoUnit.DAYS));
+        });
+        target.addDistributionPoints(Collections.singletonList(createLeaf(1)));
+
+        assertThat(target.getDistributionPoints()).containsExactly(DISTRIBUTION_POINT);
+        assertThat(fetchCount).hasValue(0);
+        assertThat(target.getCRLs()).isEmpty();
+    }
+
+    @Test
+    void addDistributionPoint_with_unsupported_scheme_test() {
+        CachingCRLStore target = new CachingCRLStore(uri -> {
+            throw new IOException("network access is not expected");
+        });
+        assertThatThrownBy(() -> target.addDistributionPoint("file:///etc/passwd")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(target.getDistributionPoints()).isEmpty();
+    }
+
+    @Test
+    void maxDistributionPoints_test() {
+        CachingCRLStore target = new CachingCRLStore(uri -> {
+            throw new IOException("network access is not expected");
+        });
+        target.setMaxDistributionPoints(2);
+
+        assertThat(target.addDistributionPoint("http://example.com/1.crl")).isTrue();
+        assertThat(target.addDistributionPoint("http://example.com/2.crl")).isTrue();
+        assertThat(target.addDistributionPoint("http://example.com/3.crl")).isFalse();
+        // registering a known distribution point again is not limited
+        assertThat(target.addDistributionPoint("http://example.com/1.crl")).isTrue();
+        assertThat(target.getDistributionPoints()).containsExactlyInAnyOrder("http://example.com/1.crl", "http://example.com/2.crl");
+    }
+
+    @Test
+    void refresh_fetches_and_persists_crl_test() throws IOException {
+        byte[] crl = createCRL(now.plus(1, ChronoUnit.DAYS));
+        AtomicInteger fetchCount = new AtomicInteger();
+        CachingCRLStore target = new CachingCRLStore(uri -> {
+            assertThat(uri).hasToString(DISTRIBUTION_POINT);
+            fetchCount.incrementAndGet();
+            return crl;
+        });
+        target.setCacheDirectory(tempDir);
+        target.addDistributionPoint(DISTRIBUTION_POINT);
+
+        target.refresh();
+        // a fresh CRL is not fetched again
+        target.refresh();
+
+        assertThat(fetchCount).hasValue(1);
+        assertThat(target.getCRLs()).hasSize(1);
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files).hasSize(1);
+        }
+
+        // a new store loads the persisted CRL on registration, without network access
+        CachingCRLStore restarted = new CachingCRLStore(uri -> {
+            throw new IOException("network access is not expected");
+        });
+        restarted.setCacheDirectory(tempDir);
+        restarted.addDistributionPoint(DISTRIBUTION_POINT);
+        assertThat(restarted.getCRLs()).hasSize(1);
+    }
+
+    @Test
+    void refresh_refetches_crl_approaching_nextUpdate_test() {
+        byte[] crl = createCRL(now.plus(2, ChronoUnit.DAYS));
+        AtomicInteger fetchCount = new AtomicInteger();
+        CachingCRLStore target = new CachingCRLStore(uri -> {
+            fetchCount.incrementAndGet();
+            return crl;
+        });
+        target.addDistributionPoint(DISTRIBUTION_POINT);
+
+        target.refresh();
+        target.refresh();
+        assertThat(fetchCount).hasValue(1);
+
+        target.setRefreshWindow(Duration.ofDays(3));
+        target.refresh();
+        assertThat(fetchCount).hasValue(2);
+    }
+
+    @Test
+    void refresh_refetches_crl_past_nextUpdate_test() {
+        AtomicInteger fetchCount = new AtomicInteger();
+        CachingCRLStore target = new CachingCRLStore(uri -> createCRL(fetchCount.incrementAndGet() == 1 ? now.minus(1, ChronoUnit.HOURS) : now.plus(1, ChronoUnit.DAYS)));
+        target.setRetryInitialBackoff(Duration.ZERO);
+        target.setRefreshWindow(Duration.ZERO);
+        target.addDistributionPoint(DISTRIBUTION_POINT);
+
+        target.refresh();
+        target.refresh();
+        target.refresh();
+
+        assertThat(fetchCount).hasValue(2);
+        assertThat(target.getCRLs().get(0).getNextUpdate()).isAfter(Date.from(now));
+    }
+
+    @Test
+    void failed_fetch_backs_off_test() {
+        AtomicInteger fetchCount = new AtomicInteger();
+        CachingCRLStore target = new CachingCRLStore(uri -> {
+            fetchCount.incrementAndGet();
+            throw new IOException("unavailable");
+        });
+        target.addDistributionPoint(DISTRIBUTION_POINT);
+
+        target.refresh();
+        target.refresh();
+
+        assertThat(fetchCount).hasValue(1);
+        assertThat(target.getCRLs()).isEmpty();
+    }
+
+    @Test
+    void concurrent_refreshes_are_coalesced_test() throws Exception {
+        byte[] crl = createCRL(now.plus(1, ChronoUnit.DAYS));
+        AtomicInteger fetchCount = new AtomicInteger();
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch fetchReleased = new CountDownLatch(1);
+        CachingCRLStore target = new CachingCRLStore(uri -> {
+            fetchCount.incrementAndGet();
+            fetchStarted.countDown();
+            try {
+                fetchReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return crl;
+        });
+        target.addDistributionPoint(DISTRIBUTION_POINT);
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<?> first = executor.submit(target::refresh);
+            fetchStarted.await();
+            Future<?> second = executor.submit(target::refresh);
+            Future<?> third = executor.submit(target::refresh);
+            fetchReleased.countDown();
+            first.get();
+            second.get();
+            third.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(fetchCount).hasValue(1);
+        assertThat(target.getCRLs()).hasSize(1);
+    }
+
+    @Test
+    void revoked_certificate_is_rejected_test() throws IOException {
+        X509Certificate revoked = createLeaf(2);
+        byte[] crl = createCRL(now.plus(1, ChronoUnit.DAYS), revoked.getSerialNumber());
+        CachingCRLStore target = new CachingCRLStore(uri -> crl);
+        target.loadFile(copyResource("attestation/3tier/crl/3tier-test-root-CA.crl"));
+        target.addDistributionPoint(DISTRIBUTION_POINT);
+        target.refresh();
+
+        X509Certificate valid = createLeaf(1);
+        assertThatCode(() -> validate(target, valid)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> validate(target, revoked))
+                .isInstanceOf(CertPathValidatorException.class)
+                .extracting(e -> ((CertPathValidatorException) e).getReason())
+                .isEqualTo(CertPathValidatorException.BasicReason.REVOKED);
+    }
+
+    @Test
+    void validation_does_not_fetch_distribution_points_of_validated_certificates_test() throws IOException {
+        AtomicInteger fetchCount = new AtomicInteger();
+        CachingCRLStore target = new CachingCRLStore(uri -> {
+            fetchCount.incrementAndGet();
+            return createCRL(now.plus(1, ChronoUnit.DAYS));
+        });
+        target.loadFile(copyResource("attestation/3tier/crl/3tier-test-root-CA.crl"));
+
+        // the leaf's distribution point is not registered, so its revocation status is undetermined
+        assertThatThrownBy(() -> validate(target, createLeaf(1)))
+                .isInstanceOf(CertPathValidatorException.class)
+                .extracting(e -> ((CertPathValidatorException) e).getReason())
+                .isEqualTo(CertPathValidatorException.BasicReason.UNDETERMINED_REVOCATION_STATUS);
+        assertThat(fetchCount).hasValue(0);
+        assertThat(target.getDistributionPoints()).isEmpty();
+    }
+
+    private void validate(CachingCRLStore target, X509Certificate leaf) throws Exception {
+        CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
+        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(
+                CertificateUtil.generateTrustAnchors(Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate())));
+        certPathParameters.setRevocationEnabled(true);
+        target.configure(certPathValidator, certPathParameters);
+        certPathValidator.validate(CertificateUtil.generateCertPath(Arrays.asList(leaf, intermediateCertificate)), certPathParameters);
+    }
+
+    private X509Certificate createLeaf(long serialNumber) {
+        try {
+            JcaX509v3CertificateBuilder certificateBuilder = new JcaX509v3CertificateBuilder(
+                    intermediateCertificate,
+                    BigInteger.valueOf(serialNumber),
+                    Date.from(now.minus(1, ChronoUnit.DAYS)),
+                    Date.from(now.plus(365, ChronoUnit.DAYS)),
+                    new X500Principal("CN=leaf"),
+                    ECUtil.createKeyPair().getPublic()
+            );
+            certificateBuilder.addExtension(Extension.basicConstraints, true, new BasicConstraints(false));
+            DistributionPointName distributionPointName = new DistributionPointName(new GeneralNames(new GeneralName(GeneralName.uniformResourceIdentifier, DISTRIBUTION_POINT)));
+            certificateBuilder.addExtension(Extension.cRLDistributionPoints, false, new CRLDistPoint(new DistributionPoint[]{new DistributionPoint(distributionPointName, null, null)}));
+            return new JcaX509CertificateConverter().getCertificate(certificateBuilder.build(new JcaContentSignerBuilder("SHA256withECDSA").build(intermediatePrivateKey)));
+        } catch (IOException | CertificateException | OperatorCreationException e) {
+            throw new UnexpectedCheckedException(e);
+        }
+    }
+
+    private byte[] createCRL(Instant nextUpdate, BigInteger... revokedSerialNumbers) {
+        try {
+            JcaX509v2CRLBuilder crlBuilder = new JcaX509v2CRLBuilder(intermediateCertificate.getSubjectX500Principal(), Date.from(now.minus(2, ChronoUnit.HOURS)));
+            crlBuilder.setNextUpdate(Date.from(nextUpdate));
+            for (BigInteger revokedSerialNumber : revokedSerialNumbers) {
+                crlBuilder.addCRLEntry(revokedSerialNumber, Date.from(now.minus(1, ChronoUnit.HOURS)), CRLReason.keyCompromise);
+            }
+            return crlBuilder.build(new JcaContentSignerBuilder("SHA256withECDSA").build(intermediatePrivateKey)).getEncoded();
+        } catch (IOException | OperatorCreationException e) {
+            throw new UnexpectedCheckedException(e);
+        }
+    }
+
+    private Path copyResource(String name) throws IOException {
+        Path path = tempDir.resolve(Path.of(name).getFileName());
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(name)) {
+            Files.copy(inputStream, path);
+        }
+        return path;
+    }
+}
@@ -115,6 +115,31 @@ class DefaultCertPathTrustworthinessVerifierTest {
         );
     }
 
+    @Test
+    void verify_with_validation_cache_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorRepository.find(aaguid)).thenReturn(trustAnchors);
+        target.setValidationCacheMaxEntries(16);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        target.verify(aaguid, attestationStatement);
+        target.verify(aaguid, attestationStatement);
+
+        AttestationCertificatePath fullChain = new AttestationCertificatePath(Arrays.asList(
+                TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate(),
+                TestAttestationUtil.load3tierTestIntermediateCACertificate(),
+                TestAttestationUtil.load3tierTestRootCACertificate()));
+        CertificateBaseAttestationStatement fullChainAttestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(fullChain);
+        target.verify(aaguid, fullChainAttestationStatement);
+        // a memoized validation must not bypass the full chain check
+        target.setFullChainProhibited(true);
+        assertThrows(CertificateException.class,
+                () -> target.verify(aaguid, fullChainAttestationStatement)
+        );
+    }
+
 
     @Test
     void getter_setter_test() {
@@ -124,6 +149,8 @@ class DefaultCertPathTrustworthinessVerifierTest {
         assertThat(target.isPolicyQualifiersRejected()).isTrue();
         target.setRevocationCheckEnabled(true);
         assertThat(target.isRevocationCheckEnabled()).isTrue();
+        target.setValidationCacheMaxEntries(128);
+        assertThat(target.getValidationCacheMaxEntries()).isEqualTo(128);
     }
 
     @Test
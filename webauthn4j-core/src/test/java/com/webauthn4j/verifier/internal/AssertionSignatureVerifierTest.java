@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier.internal;
+
+import com.webauthn4j.data.CoreAuthenticationData;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.util.ECUtil;
+import com.webauthn4j.verifier.exception.BadSignatureException;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.security.KeyPair;
+import java.security.Signature;
+import java.security.SignatureException;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AssertionSignatureVerifierTest {
+
+    private final KeyPair keyPair = ECUtil.createKeyPair();
+    private final EC2COSEKey coseKey = EC2COSEKey.create(keyPair, COSEAlgorithmIdentifier.ES256);
+    private final byte[] authenticatorDataBytes = new byte[37];
+    private final byte[] clientDataHash = new byte[32];
+
+    @Test
+    void verify_test() {
+        byte[] signature = TestDataUtil.calculateSignature(keyPair.getPrivate(), concat(authenticatorDataBytes, clientDataHash));
+        CoreAuthenticationData authenticationData = new CoreAuthenticationData(new byte[32], null, authenticatorDataBytes, clientDataHash, signature);
+
+        AssertionSignatureVerifier target = new AssertionSignatureVerifier();
+        assertThatCode(() -> target.verify(authenticationData, coseKey)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void verify_streams_signed_data_without_copying_test() {
+        byte[] signature = TestDataUtil.calculateSignature(keyPair.getPrivate(), concat(authenticatorDataBytes, clientDataHash));
+        CoreAuthenticationData authenticationData = new CoreAuthenticationData(new byte[32], null, authenticatorDataBytes, clientDataHash, signature) {
+            @Override
+            public byte[] getAuthenticatorDataBytes() {
+                throw new AssertionError("authenticatorData must not be copied");
+            }
+
+            @Override
+            public byte[] getClientDataHash() {
+                throw new AssertionError("clientDataHash must not be copied");
+            }
+        };
+
+        AssertionSignatureVerifier target = new AssertionSignatureVerifier();
+        assertThatCode(() -> target.verify(authenticationData, coseKey)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void verify_with_bad_signature_test() {
+        byte[] signature = TestDataUtil.calculateSignature(keyPair.getPrivate(), concat(authenticatorDataBytes, new byte[32]));
+        byte[] tamperedClientDataHash = new byte[32];
+        tamperedClientDataHash[0] = 0x01;
+        CoreAuthenticationData authenticationData = new CoreAuthenticationData(new byte[32], null, authenticatorDataBytes, tamperedClientDataHash, signature);
+
+        AssertionSignatureVerifier target = new AssertionSignatureVerifier();
+        assertThatThrownBy(() -> target.verify(authenticationData, coseKey)).isInstanceOf(BadSignatureException.class);
+    }
+
+    @Test
+    void verify_with_subclass_overriding_getSignedData_test() {
+        byte[] signature = TestDataUtil.calculateSignature(keyPair.getPrivate(), new byte[]{0x01, 0x02, 0x03});
+        CoreAuthenticationData authenticationData = new CoreAuthenticationData(new byte[32], null, authenticatorDataBytes, clientDataHash, signature);
+
+        AssertionSignatureVerifier target = new AssertionSignatureVerifier() {
+            @Override
+            protected @NotNull byte[] getSignedData(@NotNull CoreAuthenticationData authenticationData) {
+                return new byte[]{0x01, 0x02, 0x03};
+            }
+        };
+        assertThatCode(() -> target.verify(authenticationData, coseKey)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void verify_with_subclass_overriding_updateSignedData_test() {
+        byte[] signature = TestDataUtil.calculateSignature(keyPair.getPrivate(), concat(authenticatorDataBytes, clientDataHash));
+        CoreAuthenticationData authenticationData = new CoreAuthenticationData(new byte[32], null, authenticatorDataBytes, clientDataHash, signature);
+
+        AssertionSignatureVerifier target = new AssertionSignatureVerifier() {
+            @Override
+            protected void updateSignedData(@NotNull Signature verifier, @NotNull CoreAuthenticationData authenticationData) throws SignatureException {
+                verifier.update(authenticationData.getAuthenticatorDataByteBuffer());
+                verifier.update(authenticationData.getClientDataHashByteBuffer());
+            }
+        };
+        assertThatCode(() -> target.verify(authenticationData, coseKey)).doesNotThrowAnyException();
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        return ByteBuffer.allocate(a.length + b.length).put(a).put(b).array();
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier.internal;
+
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.util.ECUtil;
+import com.webauthn4j.util.exception.UnexpectedCheckedException;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.DERNull;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.cert.CertIOException;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.security.auth.x500.X500Principal;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.cert.CertificateException;
+import java.security.cert.PKIXCertPathValidatorResult;
+import java.security.cert.PKIXParameters;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CertPathValidationCacheTest {
+
+    private final X509Certificate intermediateCertificate = TestAttestationUtil.load3tierTestIntermediateCACertificate();
+    private final PrivateKey intermediatePrivateKey = TestAttestationUtil.load3tierTestIntermediateCAPrivateKey();
+    private final Set<TrustAnchor> trustAnchors = new HashSet<>(CertificateUtil.generateTrustAnchors(Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate())));
+    private final Instant now = Instant.now();
+    private final CertPathValidationCache target = new CertPathValidationCache(16);
+
+    private PKIXParameters pkixParameters;
+    private long serialNumber = 1;
+
+    @BeforeEach
+    void setup() {
+        pkixParameters = CertificateUtil.createPKIXParameters(trustAnchors);
+        pkixParameters.setRevocationEnabled(false);
+        pkixParameters.setDate(Date.from(now));
+    }
+
+    @Test
+    void lookup_without_put_test() {
+        List<X509Certificate> certificates = Arrays.asList(createLeaf(), intermediateCertificate);
+        assertThat(target.lookup(certificates, trustAnchors, pkixParameters)).isNull();
+    }
+
+    @Test
+    void lookup_hit_test() throws GeneralSecurityException {
+        TrustAnchor trustAnchor = warmUp();
+
+        // a leaf which has never been fully validated is accepted through the memoized intermediate chain
+        List<X509Certificate> certificates = Arrays.asList(createLeaf(), intermediateCertificate);
+        assertThat(target.lookup(certificates, trustAnchors, pkixParameters)).isSameAs(trustAnchor);
+        assertThat(target.size()).isEqualTo(1);
+    }
+
+    @Test
+    void lookup_with_expired_leaf_test() throws GeneralSecurityException {
+        warmUp();
+
+        X509Certificate leaf = createLeaf(now.minus(730, ChronoUnit.DAYS), now.minus(365, ChronoUnit.DAYS), intermediatePrivateKey, false);
+        assertThat(target.lookup(Arrays.asList(leaf, intermediateCertificate), trustAnchors, pkixParameters)).isNull();
+    }
+
+    @Test
+    void lookup_with_leaf_signed_by_another_key_test() throws GeneralSecurityException {
+        warmUp();
+
+        X509Certificate leaf = createLeaf(now.minus(1, ChronoUnit.DAYS), now.plus(365, ChronoUnit.DAYS), TestAttestationUtil.load3tierTestRootCAPrivateKey(), false);
+        assertThat(target.lookup(Arrays.asList(leaf, intermediateCertificate), trustAnchors, pkixParameters)).isNull();
+    }
+
+    @Test
+    void lookup_with_leaf_having_unknown_critical_extension_test() throws GeneralSecurityException {
+        warmUp();
+
+        X509Certificate leaf = createLeaf(now.minus(1, ChronoUnit.DAYS), now.plus(365, ChronoUnit.DAYS), intermediatePrivateKey, true);
+        assertThat(target.lookup(Arrays.asList(leaf, intermediateCertificate), trustAnchors, pkixParameters)).isNull();
+    }
+
+    @Test
+    void lookup_with_another_trust_anchor_set_instance_test() throws GeneralSecurityException {
+        warmUp();
+
+        List<X509Certificate> certificates = Arrays.asList(createLeaf(), intermediateCertificate);
+        assertThat(target.lookup(certificates, new HashSet<>(trustAnchors), pkixParameters)).isNull();
+    }
+
+    @Test
+    void lookup_with_revocation_enabled_test() throws GeneralSecurityException {
+        warmUp();
+
+        pkixParameters.setRevocationEnabled(true);
+        List<X509Certificate> certificates = Arrays.asList(createLeaf(), intermediateCertificate);
+        assertThat(target.lookup(certificates, trustAnchors, pkixParameters)).isNull();
+    }
+
+    private TrustAnchor warmUp() throws GeneralSecurityException {
+        List<X509Certificate> certificates = Arrays.asList(createLeaf(), intermediateCertificate);
+        PKIXCertPathValidatorResult result = (PKIXCertPathValidatorResult) CertificateUtil.createCertPathValidator().validate(CertificateUtil.generateCertPath(certificates), pkixParameters);
+        target.put(certificates, trustAnchors, pkixParameters, result.getTrustAnchor());
+        return result.getTrustAnchor();
+    }
+
+    private X509Certificate createLeaf() {
+        return createLeaf(now.minus(1, ChronoUnit.DAYS), now.plus(365, ChronoUnit.DAYS), intermediatePrivateKey, false);
+    }
+
+    private X509Certificate createLeaf(Instant notBefore, Instant notAfter, PrivateKey signingKey, boolean unknownCriticalExtension) {
+        try {
+            JcaX509v3CertificateBuilder certificateBuilder = new JcaX509v3CertificateBuilder(
+                    intermediateCertificate,
+                    BigInteger.valueOf(serialNumber++),
+                    Date.from(notBefore),
+                    Date.from(notAfter),
+                    new X500Principal("CN=leaf"),
+                    ECUtil.createKeyPair().getPublic()
+            );
+            certificateBuilder.addExtension(Extension.basicConstraints, true, new BasicConstraints(false));
+            if (unknownCriticalExtension) {
+                certificateBuilder.addExtension(new ASN1ObjectIdentifier("1.3.6.1.4.1.45724.9999"), true, DERNull.INSTANCE);
+            }
+            return new JcaX509CertificateConverter().getCertificate(certificateBuilder.build(new JcaContentSignerBuilder("SHA256withECDSA").build(signingKey)));
+        } catch (CertIOException | CertificateException | OperatorCreationException e) {
+            throw new UnexpectedCheckedException(e);
+        }
+    }
+}
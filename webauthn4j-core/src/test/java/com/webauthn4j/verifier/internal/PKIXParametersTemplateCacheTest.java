@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier.internal;
+
+import com.webauthn4j.test.TestAttestationUtil;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.PKIXParameters;
+import java.security.cert.TrustAnchor;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PKIXParametersTemplateCacheTest {
+
+    private final PKIXParametersTemplateCache target = new PKIXParametersTemplateCache();
+    private final TrustAnchor trustAnchor = new TrustAnchor(TestAttestationUtil.load3tierTestRootCACertificate(), null);
+
+    @Test
+    void get_returns_copy_of_template_test() {
+        Set<TrustAnchor> trustAnchors = Collections.singleton(trustAnchor);
+
+        PKIXParameters first = target.get(trustAnchors);
+        first.setDate(new Date(0));
+        PKIXParameters second = target.get(trustAnchors);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getTrustAnchors()).containsExactly(trustAnchor);
+        assertThat(second.getDate()).isNull();
+        assertThat(target.size()).isEqualTo(1);
+    }
+
+    @Test
+    void trust_anchor_sets_are_keyed_by_identity_test() {
+        Set<TrustAnchor> trustAnchors = new HashSet<>(Collections.singleton(trustAnchor));
+        Set<TrustAnchor> equalTrustAnchors = new HashSet<>(Collections.singleton(trustAnchor));
+
+        target.get(trustAnchors);
+        target.get(equalTrustAnchors);
+
+        assertThat(target.size()).isEqualTo(2);
+    }
+}
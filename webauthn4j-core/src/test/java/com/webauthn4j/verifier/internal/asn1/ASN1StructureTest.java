@@ -0,0 +1,49 @@
+package com.webauthn4j.verifier.internal.asn1;
+
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ASN1StructureTest {
+
+    // SEQUENCE { INTEGER 1, [1] { INTEGER 2 }, [702] { INTEGER 0 } } followed by a trailing byte
+    private static final byte[] DATA = new byte[]{
+            0x30, 0x0F,
+            0x02, 0x01, 0x01,
+            (byte) 0xA1, 0x03, 0x02, 0x01, 0x02,
+            (byte) 0xBF, (byte) 0x85, 0x3E, 0x03, 0x02, 0x01, 0x00,
+            0x55
+    };
+
+    @Test
+    void parse_test() {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(DATA);
+        ASN1Structure structure = ASN1Structure.parse(byteBuffer);
+
+        assertThat(byteBuffer.position()).isEqualTo(DATA.length - 1);
+        assertThat(structure.getTag().getNumber()).isEqualTo(ASN1Tag.SEQUENCE);
+        assertThat(structure.size()).isEqualTo(3);
+        assertThat(((ASN1Primitive) structure.get(0)).getValueAsBigInteger()).isEqualTo(BigInteger.ONE);
+        ASN1Structure explicit = (ASN1Structure) structure.get(1);
+        assertThat(((ASN1Primitive) explicit.get(0)).getValue()).containsExactly(0x02);
+    }
+
+    @Test
+    void find_test() {
+        ASN1Structure structure = ASN1Structure.parse(DATA);
+
+        ASN1Structure entry = (ASN1Structure) structure.find(ASN1Tag.ASN1TagClass.CONTEXT_SPECIFIC, 702);
+        assertThat(entry).isNotNull();
+        assertThat(((ASN1Primitive) entry.get(0)).getValueAsBigInteger()).isEqualTo(BigInteger.ZERO);
+        assertThat(structure.find(ASN1Tag.ASN1TagClass.CONTEXT_SPECIFIC, 600)).isNull();
+
+        // once the children are parsed, they are returned as is
+        assertThat(structure.size()).isEqualTo(3);
+        assertThat(structure.find(ASN1Tag.ASN1TagClass.UNIVERSAL, ASN1Tag.INTEGER)).isSameAs(structure.get(0));
+    }
+
+}
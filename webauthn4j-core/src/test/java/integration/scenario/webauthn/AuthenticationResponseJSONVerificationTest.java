@@ -128,6 +128,44 @@ class AuthenticationResponseJSONVerificationTest {
         assertThatCode(()->target.verifyAuthenticationResponseJSON(new ByteArrayInputStream(authenticationResponseJSON), authenticationParameters)).doesNotThrowAnyException();
     }
 
+    @Test
+    void test_with_authenticationResponseJSON_as_bytes() {
+        long timeout = 0;
+        Challenge challenge = new DefaultChallenge();
+
+        // create
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+
+        // get
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                timeout,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        byte[] authenticationResponseJSON = objectConverter.getJsonConverter().writeValueAsBytes(credential);
+
+
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+        Authenticator authenticator = TestDataUtil.createAuthenticator(attestationObject);
+
+        List<byte[]> allowCredentials = null;
+        AuthenticationParameters authenticationParameters =
+                new AuthenticationParameters(
+                        serverProperty,
+                        authenticator,
+                        allowCredentials,
+                        true
+                );
+
+        assertThatCode(()->target.parseAuthenticationResponseJSON(authenticationResponseJSON)).doesNotThrowAnyException();
+        assertThatCode(()->target.verifyAuthenticationResponseJSON(authenticationResponseJSON, authenticationParameters)).doesNotThrowAnyException();
+    }
+
     private AttestationObject createAttestationObject(String rpId, Challenge challenge) {
         AuthenticatorSelectionCriteria authenticatorSelectionCriteria =
                 new AuthenticatorSelectionCriteria(
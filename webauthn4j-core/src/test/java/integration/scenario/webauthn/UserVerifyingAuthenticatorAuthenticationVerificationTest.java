@@ -32,14 +32,22 @@ import com.webauthn4j.data.client.Origin;
 import com.webauthn4j.data.client.challenge.Challenge;
 import com.webauthn4j.data.client.challenge.DefaultChallenge;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.test.EmulatorUtil;
 import com.webauthn4j.test.client.ClientPlatform;
 import com.webauthn4j.verifier.exception.*;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -95,6 +103,64 @@ class UserVerifyingAuthenticatorAuthenticationVerificationTest {
         assertThatCode(()->target.verify(webAuthnAuthenticationRequest, authenticationParameters)).doesNotThrowAnyException();
     }
 
+    @Test
+    void verifyAll_should_success() {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+
+        // create
+        // items are verified concurrently and update the counter of their CredentialRecord, so each item gets its own record
+        var registration = createRegistration(rpId, challenge);
+
+        // get
+        var credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        var firstPublicKeyCredential = clientPlatform.get(credentialRequestOptions);
+        var secondPublicKeyCredential = clientPlatform.get(credentialRequestOptions);
+
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+
+        List<AuthenticationRequest> authenticationRequests = Stream.of(firstPublicKeyCredential, secondPublicKeyCredential)
+                .map(publicKeyCredential -> new AuthenticationRequest(
+                        publicKeyCredential.getRawId(),
+                        publicKeyCredential.getResponse().getAuthenticatorData(),
+                        publicKeyCredential.getResponse().getClientDataJSON(),
+                        authenticationExtensionsClientOutputsConverter.convertToString(publicKeyCredential.getClientExtensionResults()),
+                        publicKeyCredential.getResponse().getSignature()
+                ))
+                .collect(Collectors.toList());
+        Map<ByteBuffer, AuthenticationParameters> authenticationParametersMap = new HashMap<>();
+        for (AuthenticationRequest authenticationRequest : authenticationRequests) {
+            authenticationParametersMap.put(ByteBuffer.wrap(authenticationRequest.getSignature()), new AuthenticationParameters(
+                    serverProperty,
+                    createCredentialRecord(registration),
+                    null,
+                    true
+            ));
+        }
+
+        List<AuthenticationResult> results = target.verifyAll(authenticationRequests, authenticationData -> authenticationParametersMap.get(ByteBuffer.wrap(authenticationData.getSignature())));
+
+        assertThat(results).hasSize(2).allMatch(AuthenticationResult::isSuccess);
+        for (int i = 0; i < results.size(); i++) {
+            AuthenticationRequest authenticationRequest = authenticationRequests.get(i);
+            AuthenticationResult result = results.get(i);
+            assertThat(result.getException()).isNull();
+            AuthenticationData authenticationData = result.getAuthenticationData();
+            assertThat(authenticationData.getCredentialId()).isEqualTo(authenticationRequest.getCredentialId());
+            assertThat(authenticationData.getAuthenticatorDataBytes()).isEqualTo(authenticationRequest.getAuthenticatorData());
+            assertThat(authenticationData.getSignature()).isEqualTo(authenticationRequest.getSignature());
+            assertThat(authenticationData.getCollectedClientData().getChallenge()).isEqualTo(challenge);
+            assertThat(authenticationData.getAuthenticatorData().isFlagUV()).isTrue();
+        }
+    }
+
     @Test
     void should_success_when_token_binding_is_provided() {
         String rpId = "example.com";
@@ -377,6 +443,10 @@ class UserVerifyingAuthenticatorAuthenticationVerificationTest {
     }
 
     private CredentialRecord createCredentialRecord(String rpId, Challenge challenge) {
+        return createCredentialRecord(createRegistration(rpId, challenge));
+    }
+
+    private PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> createRegistration(String rpId, Challenge challenge) {
 
         var credentialCreationOptions = new PublicKeyCredentialCreationOptions(
                 new PublicKeyCredentialRpEntity(rpId, "example.com"),
@@ -390,7 +460,10 @@ class UserVerifyingAuthenticatorAuthenticationVerificationTest {
                 new AuthenticationExtensionsClientInputs<>()
         );
 
-        var response = clientPlatform.create(credentialCreationOptions);
+        return clientPlatform.create(credentialCreationOptions);
+    }
+
+    private CredentialRecord createCredentialRecord(PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> response) {
         var registrationRequest = response.getResponse();
         AttestationObject attestationObject = attestationObjectConverter.convert(registrationRequest.getAttestationObject());
         var clientData = collectedClientDataConverter.convert(registrationRequest.getClientDataJSON());
@@ -18,57 +18,124 @@ package com.webauthn4j.async.metadata;
 
 import com.webauthn4j.metadata.data.MetadataBLOB;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Caches the {@link MetadataBLOB} provided by {@link #doProvide()} until its nextUpdate.
+ * <p>
+ * Refresh is single-flight: concurrent callers share one in-flight refresh, and readers of a valid BLOB don't take
+ * any lock. With a positive {@link #setRefreshAhead(Duration) refreshAhead}, a refresh is started in the background
+ * that long before nextUpdate, while the cached BLOB keeps being served. A background refresh is attempted at most once
+ * a day, whether it succeeds or not, so a failing upstream is not hit on every {@link #provide()}.
+ */
 public abstract class CachingMetadataBLOBAsyncProvider implements MetadataBLOBAsyncProvider {
 
-    private MetadataBLOB cachedMetadataBLOB = null;
-    private CompletableFuture<MetadataBLOB> metadataBLOBFuture = new CompletableFuture<>();
-    private LocalDate metadataBLOBLastUpdate = null;
-    private final Object metadataBLOBFutureLock = new Object();
-    private final Lock metadataBLOBRefreshingLock = new ReentrantLock();
+    private final Logger logger = LoggerFactory.getLogger(CachingMetadataBLOBAsyncProvider.class);
+
+    private volatile CachedMetadataBLOB cached = null;
+    private final AtomicReference<CompletableFuture<MetadataBLOB>> inFlightRefresh = new AtomicReference<>();
+    private final AtomicReference<LocalDate> lastProactiveRefreshAttempt = new AtomicReference<>(LocalDate.MIN);
+    private volatile Duration refreshAhead = Duration.ZERO;
 
     @Override
     public @NotNull CompletionStage<MetadataBLOB> provide(){
-
-        if(!needsMetadataBLOBUpdate(cachedMetadataBLOB, metadataBLOBLastUpdate)){
-            return CompletableFuture.completedFuture(cachedMetadataBLOB);
+        CachedMetadataBLOB current = cached;
+        if(current == null || needsMetadataBLOBUpdate(current.metadataBLOB, current.lastUpdate)){
+            return refresh();
         }
+        if(needsProactiveRefresh(current)){
+            refresh().exceptionally(e -> {
+                logger.warn("Failed to refresh MetadataBLOB ahead of nextUpdate", e);
+                return null;
+            });
+        }
+        return CompletableFuture.completedFuture(current.metadataBLOB);
+    }
 
-        CompletableFuture<MetadataBLOB> response;
-        synchronized (metadataBLOBFutureLock){
-            response = metadataBLOBFuture;
+    /**
+     * Refreshes the cached {@link MetadataBLOB}. If a refresh is already in flight, its result is shared instead of
+     * starting another one.
+     *
+     * @return refreshed {@link MetadataBLOB}
+     */
+    public @NotNull CompletionStage<MetadataBLOB> refresh(){
+        while(true){
+            CompletableFuture<MetadataBLOB> existing = inFlightRefresh.get();
+            if(existing != null){
+                return existing.copy();
+            }
+            CompletableFuture<MetadataBLOB> created = new CompletableFuture<>();
+            if(inFlightRefresh.compareAndSet(null, created)){
+                startRefresh(created);
+                return created.copy();
+            }
         }
+    }
 
-        if(metadataBLOBRefreshingLock.tryLock()){
-            doProvide()
-                    .thenAccept(metadataBLOB -> {
-                        cachedMetadataBLOB = metadataBLOB;
-                        metadataBLOBLastUpdate = LocalDate.now();
-                        synchronized (metadataBLOBFutureLock){
-                            metadataBLOBFuture.complete(metadataBLOB);
-                            metadataBLOBFuture = new CompletableFuture<>();
-                        }
-                    })
-                    .exceptionally(e ->{
-                        synchronized (metadataBLOBFutureLock){
-                            metadataBLOBFuture.completeExceptionally(e);
-                            metadataBLOBFuture = new CompletableFuture<>();
-                        }
-                        metadataBLOBRefreshingLock.unlock();
-                        return null;
-                    });
+    private void startRefresh(@NotNull CompletableFuture<MetadataBLOB> future){
+        CompletionStage<MetadataBLOB> stage;
+        try{
+            stage = doProvide();
         }
-        return response;
+        catch (RuntimeException e){
+            stage = CompletableFuture.failedFuture(e);
+        }
+        stage.whenComplete((metadataBLOB, e) -> {
+            if(e == null){
+                cached = new CachedMetadataBLOB(metadataBLOB, LocalDate.now());
+            }
+            // release the slot before completing, so that callers woken up by the completion can start a new refresh
+            inFlightRefresh.compareAndSet(future, null);
+            if(e == null){
+                future.complete(metadataBLOB);
+            }
+            else{
+                future.completeExceptionally(e);
+            }
+        });
     }
 
     protected abstract @NotNull CompletionStage<MetadataBLOB> doProvide();
 
+    public @NotNull Duration getRefreshAhead() {
+        return refreshAhead;
+    }
+
+    /**
+     * Sets how long before nextUpdate a background refresh is started. As nextUpdate is a date, it is applied
+     * with day granularity. A background refresh is attempted at most once a day, even if it fails.
+     *
+     * @param refreshAhead refresh ahead duration. {@link Duration#ZERO} disables proactive refresh (default).
+     */
+    public void setRefreshAhead(@NotNull Duration refreshAhead) {
+        if(refreshAhead.isNegative()){
+            throw new IllegalArgumentException("refreshAhead must not be negative");
+        }
+        this.refreshAhead = refreshAhead;
+    }
+
+    private boolean needsProactiveRefresh(@NotNull CachedMetadataBLOB current){
+        long days = refreshAhead.toDays();
+        if(days == 0){
+            return false;
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate nextUpdate = current.metadataBLOB.getPayload().getNextUpdate();
+        if(nextUpdate.minusDays(days).isAfter(today) || !current.lastUpdate.isBefore(today)){
+            return false;
+        }
+        // the attempt is recorded up front, so that neither concurrent callers nor a failed refresh trigger another one today
+        LocalDate lastAttempt = lastProactiveRefreshAttempt.get();
+        return lastAttempt.isBefore(today) && lastProactiveRefreshAttempt.compareAndSet(lastAttempt, today);
+    }
+
     static boolean needsMetadataBLOBUpdate(MetadataBLOB cachedMetadataBLOB, LocalDate metadataBLOBLastUpdate){
         if(cachedMetadataBLOB == null){
             return true;
@@ -78,4 +145,14 @@ public abstract class CachingMetadataBLOBAsyncProvider implements MetadataBLOBAs
         return (nextUpdate.isBefore(today) || nextUpdate.isEqual(today)) && metadataBLOBLastUpdate.isBefore(today);
     }
 
+    private static class CachedMetadataBLOB {
+        private final MetadataBLOB metadataBLOB;
+        private final LocalDate lastUpdate;
+
+        private CachedMetadataBLOB(@NotNull MetadataBLOB metadataBLOB, @NotNull LocalDate lastUpdate) {
+            this.metadataBLOB = metadataBLOB;
+            this.lastUpdate = lastUpdate;
+        }
+    }
+
 }
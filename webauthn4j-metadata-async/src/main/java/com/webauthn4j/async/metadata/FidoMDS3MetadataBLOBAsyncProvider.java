@@ -81,7 +81,7 @@ public class FidoMDS3MetadataBLOBAsyncProvider extends CachingMetadataBLOBAsyncP
     @Override
     protected @NotNull CompletionStage<MetadataBLOB> doProvide() {
         return httpClient.fetch(blobEndpoint).thenApply(response -> {
-            String body = readAsString(response.getBody());
+            byte[] body = readAllBytes(response.getBody());
             return metadataBLOBFactory.parse(body);
         }).thenCompose(metadataBLOB -> {
             if(!metadataBLOB.isValidSignature()){
@@ -91,9 +91,9 @@ public class FidoMDS3MetadataBLOBAsyncProvider extends CachingMetadataBLOBAsyncP
         });
     }
 
-    private static @NotNull String readAsString(InputStream responseBody) {
+    private static @NotNull byte[] readAllBytes(InputStream responseBody) {
         try {
-            return new String(responseBody.readAllBytes());
+            return responseBody.readAllBytes();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -19,27 +19,46 @@ package com.webauthn4j.async.metadata;
 import com.webauthn4j.async.util.internal.FileAsyncUtil;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.util.internal.LocalFilesCache;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.ByteArrayInputStream;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
+/**
+ * Loads {@link MetadataStatement}s from local JSON files. By default, the files are read on every {@link #provide()}
+ * call. When caching is enabled, they are parsed once and only changed files are reloaded, checking modification
+ * times at most once per poll interval.
+ * <p>
+ * Without caching, every call returns a new list, so repositories rebuild their derived indexes on every lookup.
+ * Enable caching when the provider serves lookups on a hot path.
+ */
 public class LocalFilesMetadataStatementsAsyncProvider implements MetadataStatementsAsyncProvider {
 
     private final ObjectConverter objectConverter;
     private final Path[] paths;
+    private final LocalFilesCache<MetadataStatement> cache;
+    private boolean cachingEnabled = false;
 
     public LocalFilesMetadataStatementsAsyncProvider(ObjectConverter objectConverter, Path... paths){
         this.objectConverter = objectConverter;
         this.paths = paths;
+        this.cache = new LocalFilesCache<>(paths, bytes -> objectConverter.getJsonConverter().readValue(bytes, MetadataStatement.class));
     }
 
     @Override
     public CompletableFuture<List<MetadataStatement>> provide() {
+        if (cachingEnabled) {
+            return cache.getAsync(FileAsyncUtil::load);
+        }
         var completionStages = Arrays.stream(paths)
                 .map(FileAsyncUtil::load)
                 .map(CompletionStage::toCompletableFuture)
@@ -47,6 +66,28 @@ public class LocalFilesMetadataStatementsAsyncProvider implements MetadataStatem
         CompletableFuture<Void> joinedFuture = CompletableFuture.allOf(completionStages.toArray(CompletableFuture[]::new));
         return joinedFuture
                 .thenApply(unused -> completionStages.stream().map(loadedByte -> loadedByte.toCompletableFuture().join()))
-                .thenApply(stream -> stream.map(item -> objectConverter.getJsonConverter().readValue(new ByteArrayInputStream(item), MetadataStatement.class)).collect(Collectors.toList()));
+                .thenApply(stream -> stream.map(item -> objectConverter.getJsonConverter().readValue(new ByteArrayInputStream(item), MetadataStatement.class)).collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList)));
+    }
+
+    public boolean isCachingEnabled() {
+        return cachingEnabled;
+    }
+
+    public void setCachingEnabled(boolean cachingEnabled) {
+        this.cachingEnabled = cachingEnabled;
+    }
+
+    public @NotNull Duration getPollInterval() {
+        return cache.getPollInterval();
+    }
+
+    /**
+     * Sets how often file modification times are checked while caching is enabled.
+     *
+     * @param pollInterval poll interval
+     */
+    public void setPollInterval(@NotNull Duration pollInterval) {
+        AssertUtil.notNull(pollInterval, "pollInterval must not be null");
+        cache.setPollInterval(pollInterval);
     }
 }
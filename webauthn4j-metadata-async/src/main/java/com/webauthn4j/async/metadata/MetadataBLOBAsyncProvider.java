@@ -5,6 +5,14 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.concurrent.CompletionStage;
 
+/**
+ * Provides a {@link MetadataBLOB} asynchronously.
+ * <p>
+ * Repositories cache data derived from the provided {@link MetadataBLOB}, such as lookup indexes and trust anchor sets, keyed on
+ * the identity of the returned instance. An implementation must not modify an instance after handing it out, and
+ * should keep returning the same instance until the contents change, then return a new one. An implementation that
+ * returns a new instance on every call is still correct, but the derived data is rebuilt on every lookup.
+ */
 public interface MetadataBLOBAsyncProvider {
 
     @NotNull
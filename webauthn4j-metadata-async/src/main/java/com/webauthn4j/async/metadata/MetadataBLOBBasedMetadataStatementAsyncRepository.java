@@ -1,42 +1,44 @@
 package com.webauthn4j.async.metadata;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
 import com.webauthn4j.metadata.util.internal.MetadataBLOBUtil;
+import com.webauthn4j.metadata.util.internal.MetadataIndex;
+import com.webauthn4j.metadata.util.internal.MetadataIndexCache;
 import com.webauthn4j.metadata.util.internal.MetadataStatementUtil;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-import static com.webauthn4j.metadata.MetadataBLOBBasedMetadataStatementRepository.matchAttestationCertificateKeyIdentifier;
-
 public class MetadataBLOBBasedMetadataStatementAsyncRepository implements MetadataStatementAsyncRepository{
 
     private final List<MetadataBLOBAsyncProvider> metadataBLOBAsyncProviders;
+    private final List<MetadataIndexCache<MetadataBLOB, MetadataBLOBPayloadEntry>> indexCaches;
 
     private boolean notFidoCertifiedAllowed = false;
     private boolean selfAssertionSubmittedAllowed = false;
 
     public MetadataBLOBBasedMetadataStatementAsyncRepository(MetadataBLOBAsyncProvider... metadataBLOBAsyncProviders) {
         this.metadataBLOBAsyncProviders = Arrays.asList(metadataBLOBAsyncProviders);
+        this.indexCaches = this.metadataBLOBAsyncProviders.stream()
+                .map(provider -> new MetadataIndexCache<>(MetadataBLOBUtil::createIndex))
+                .collect(Collectors.toList());
     }
 
     @Override
     public CompletionStage<Set<MetadataStatement>> find(AAGUID aaguid) {
-        return metadataBLOBAsyncProviders.stream()
-                .map(provider -> provider.provide().thenApply(metadataBLOB -> metadataBLOB.getPayload().getEntries().stream()))
-                .reduce(CompletableFuture.completedFuture(Stream.empty()),
-                        (a, b)-> a.thenCombine(b, Stream::concat)
-                ).thenApply(entries ->
+        return findEntries(index -> index.find(aaguid))
+                .thenApply(entries ->
                         entries
-                        .filter(entry -> Objects.equals(entry.getAaguid(), aaguid))
                         .filter(entry -> MetadataBLOBUtil.checkMetadataBLOBPayloadEntry(entry, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed))
                         .map(MetadataBLOBPayloadEntry::getMetadataStatement)
                         .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
@@ -46,16 +48,22 @@ public class MetadataBLOBBasedMetadataStatementAsyncRepository implements Metada
 
     @Override
     public CompletionStage<Set<MetadataStatement>> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataBLOBAsyncProviders.stream()
-                .map(provider -> provider.provide().thenApply(metadataBLOB -> metadataBLOB.getPayload().getEntries().stream()))
-                .reduce(CompletableFuture.completedFuture(Stream.empty()), (a, b)-> a.thenCombine(b, Stream::concat))
+        return findEntries(index -> index.find(attestationCertificateKeyIdentifier))
                 .thenApply(entries -> entries
-                        .filter(entry -> matchAttestationCertificateKeyIdentifier(entry, attestationCertificateKeyIdentifier))
                         .map(MetadataBLOBPayloadEntry::getMetadataStatement)
                         .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
                         .collect(Collectors.toSet()));
     }
 
+    private CompletionStage<Stream<MetadataBLOBPayloadEntry>> findEntries(Function<MetadataIndex<MetadataBLOBPayloadEntry>, List<MetadataBLOBPayloadEntry>> lookup) {
+        return IntStream.range(0, metadataBLOBAsyncProviders.size())
+                .mapToObj(i -> {
+                    MetadataIndexCache<MetadataBLOB, MetadataBLOBPayloadEntry> indexCache = indexCaches.get(i);
+                    return metadataBLOBAsyncProviders.get(i).provide().thenApply(metadataBLOB -> lookup.apply(indexCache.get(metadataBLOB)).stream());
+                })
+                .reduce(CompletableFuture.completedFuture(Stream.empty()), (a, b)-> a.thenCombine(b, Stream::concat));
+    }
+
     public boolean isNotFidoCertifiedAllowed() {
         return notFidoCertifiedAllowed;
     }
@@ -21,6 +21,14 @@ import com.webauthn4j.metadata.data.statement.MetadataStatement;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+/**
+ * Provides {@link MetadataStatement}s asynchronously.
+ * <p>
+ * Repositories cache data derived from the provided list, such as lookup indexes and trust anchor sets, keyed on
+ * the identity of the returned instance. An implementation must not modify an instance after handing it out, and
+ * should keep returning the same instance until the contents change, then return a new one. An implementation that
+ * returns a new instance on every call is still correct, but the derived data is rebuilt on every lookup.
+ */
 public interface MetadataStatementsAsyncProvider {
 
     CompletableFuture<List<MetadataStatement>> provide();
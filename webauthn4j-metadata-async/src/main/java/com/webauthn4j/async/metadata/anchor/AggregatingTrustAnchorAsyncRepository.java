@@ -18,15 +18,23 @@ package com.webauthn4j.async.metadata.anchor;
 
 import com.webauthn4j.async.anchor.TrustAnchorAsyncRepository;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.CompletionStageUtil;
 
 import java.security.cert.TrustAnchor;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * Aggregates trust anchors of multiple {@link TrustAnchorAsyncRepository}s. All child lookups are started before any of
+ * them is awaited, so the lookup takes as long as the slowest child rather than the sum of them.
+ */
 public class AggregatingTrustAnchorAsyncRepository implements TrustAnchorAsyncRepository {
 
     List<TrustAnchorAsyncRepository> repositories;
@@ -37,21 +45,35 @@ public class AggregatingTrustAnchorAsyncRepository implements TrustAnchorAsyncRe
 
     @Override
     public CompletionStage<Set<TrustAnchor>> find(AAGUID aaguid) {
-        return repositories.stream()
-                .map(repository -> repository.find(aaguid))
-                .reduce(CompletableFuture.completedFuture(new HashSet<>()), (a, b) -> a.thenCombine(b, (c, d)-> {
-                    c.addAll(d);
-                    return c;
-                }));
+        return findAll(repository -> repository.find(aaguid));
     }
 
     @Override
     public CompletionStage<Set<TrustAnchor>> find(byte[] attestationCertificateKeyIdentifier) {
-        return repositories.stream()
-                .map(repository -> repository.find(attestationCertificateKeyIdentifier))
-                .reduce(CompletableFuture.completedFuture(new HashSet<>()), (a, b) -> a.thenCombine(b, (c, d)-> {
-                    c.addAll(d);
-                    return c;
-                }));
+        return findAll(repository -> repository.find(attestationCertificateKeyIdentifier));
+    }
+
+    private CompletionStage<Set<TrustAnchor>> findAll(Function<TrustAnchorAsyncRepository, CompletionStage<Set<TrustAnchor>>> lookup) {
+        List<CompletableFuture<Set<TrustAnchor>>> futures = new ArrayList<>(repositories.size());
+        for (TrustAnchorAsyncRepository repository : repositories) {
+            futures.add(CompletionStageUtil.compose(() -> lookup.apply(repository)).toCompletableFuture());
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(unused -> merge(futures.stream().map(CompletableFuture::join).collect(Collectors.toList())));
+    }
+
+    /**
+     * Merges child results. When only one child has trust anchors, its set is returned as is instead of being copied.
+     */
+    private Set<TrustAnchor> merge(List<Set<TrustAnchor>> results) {
+        List<Set<TrustAnchor>> nonEmptyResults = results.stream().filter(result -> !result.isEmpty()).collect(Collectors.toList());
+        switch (nonEmptyResults.size()) {
+            case 0:
+                return Collections.emptySet();
+            case 1:
+                return nonEmptyResults.get(0);
+            default:
+                return Collections.unmodifiableSet(nonEmptyResults.stream().flatMap(Set::stream).collect(Collectors.toSet()));
+        }
     }
 }
@@ -5,12 +5,13 @@ import com.webauthn4j.async.metadata.LocalFilesMetadataStatementsAsyncProvider;
 import com.webauthn4j.async.metadata.MetadataStatementsAsyncProvider;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
-import com.webauthn4j.util.HexUtil;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.util.internal.MetadataIndexCache;
+import com.webauthn4j.metadata.util.internal.MetadataStatementUtil;
 
 import java.nio.file.Path;
 import java.security.cert.TrustAnchor;
-import java.util.Arrays;
-import java.util.Objects;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
@@ -18,6 +19,7 @@ import java.util.stream.Collectors;
 public class MetadataStatementsBasedTrustAnchorAsyncRepository implements TrustAnchorAsyncRepository {
 
     private final MetadataStatementsAsyncProvider metadataStatementsAsyncProvider;
+    private final MetadataIndexCache<List<MetadataStatement>, MetadataStatement> indexCache = new MetadataIndexCache<>(MetadataStatementUtil::createIndex);
 
     public MetadataStatementsBasedTrustAnchorAsyncRepository(MetadataStatementsAsyncProvider metadataStatementsAsyncProvider) {
         this.metadataStatementsAsyncProvider = metadataStatementsAsyncProvider;
@@ -29,8 +31,7 @@ public class MetadataStatementsBasedTrustAnchorAsyncRepository implements TrustA
 
     @Override
     public CompletionStage<Set<TrustAnchor>> find(AAGUID aaguid) {
-        return metadataStatementsAsyncProvider.provide().thenApply( metadataStatements -> metadataStatements.stream()
-                .filter(metadataStatement -> Objects.equals(aaguid, metadataStatement.getAaguid()))
+        return metadataStatementsAsyncProvider.provide().thenApply( metadataStatements -> indexCache.get(metadataStatements).find(aaguid).stream()
                 .flatMap(metadataStatement -> metadataStatement.getAttestationRootCertificates().stream())
                 .map(item -> new TrustAnchor(item, null))
                 .collect(Collectors.toSet()));
@@ -38,8 +39,7 @@ public class MetadataStatementsBasedTrustAnchorAsyncRepository implements TrustA
 
     @Override
     public CompletionStage<Set<TrustAnchor>> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataStatementsAsyncProvider.provide().thenApply( metadataStatements -> metadataStatements.stream()
-                .filter(metadataStatement -> metadataStatement.getAttestationCertificateKeyIdentifiers() != null && metadataStatement.getAttestationCertificateKeyIdentifiers().stream().anyMatch(identifier -> Arrays.equals(HexUtil.decode(identifier), attestationCertificateKeyIdentifier)))
+        return metadataStatementsAsyncProvider.provide().thenApply( metadataStatements -> indexCache.get(metadataStatements).find(attestationCertificateKeyIdentifier).stream()
                 .map(metadataStatement -> new TrustAnchor(metadataStatement.getAttestationRootCertificates().get(0), null))
                 .collect(Collectors.toSet()));
     }
@@ -11,11 +11,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class CachingMetadataBLOBAsyncProviderTest {
@@ -70,6 +73,88 @@ class CachingMetadataBLOBAsyncProviderTest {
 
 
 
+    @Test
+    void concurrent_provide_calls_share_single_refresh_test(){
+        CompletableFuture<MetadataBLOB> pending = new CompletableFuture<>();
+        CachingMetadataBLOBAsyncProvider target = spy(CachingMetadataBLOBAsyncProvider.class);
+        when(target.doProvide()).thenReturn(pending);
+
+        CompletableFuture<MetadataBLOB> first = target.provide().toCompletableFuture();
+        CompletableFuture<MetadataBLOB> second = target.provide().toCompletableFuture();
+        verify(target, times(1)).doProvide();
+
+        MetadataBLOB metadataBLOB = createMetadataBLOB(LocalDate.now().plusDays(10));
+        pending.complete(metadataBLOB);
+        assertThat(first.join()).isSameAs(metadataBLOB);
+        assertThat(second.join()).isSameAs(metadataBLOB);
+        assertThat(target.provide().toCompletableFuture().join()).isSameAs(metadataBLOB);
+        verify(target, times(1)).doProvide();
+    }
+
+    @Test
+    void failed_refresh_is_retried_by_next_call_test(){
+        MetadataBLOB metadataBLOB = createMetadataBLOB(LocalDate.now().plusDays(10));
+        CachingMetadataBLOBAsyncProvider target = spy(CachingMetadataBLOBAsyncProvider.class);
+        when(target.doProvide())
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("unavailable")))
+                .thenReturn(CompletableFuture.completedFuture(metadataBLOB));
+
+        assertThatThrownBy(() -> target.provide().toCompletableFuture().join()).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(target.provide().toCompletableFuture().join()).isSameAs(metadataBLOB);
+        verify(target, times(2)).doProvide();
+    }
+
+    @Test
+    void refreshAhead_starts_refresh_before_nextUpdate_test(){
+        LocalDate nextUpdate = LocalDate.of(2020, 1, 10);
+        MetadataBLOB metadataBLOB = createMetadataBLOB(nextUpdate);
+        CachingMetadataBLOBAsyncProvider target = spy(CachingMetadataBLOBAsyncProvider.class);
+        when(target.doProvide()).thenReturn(CompletableFuture.completedFuture(metadataBLOB));
+        target.setRefreshAhead(Duration.ofDays(3));
+        LocalDate firstTrialDay = LocalDate.of(2020, 1, 1);
+        LocalDate secondTrialDay = LocalDate.of(2020, 1, 5);
+        LocalDate thirdTrialDay = LocalDate.of(2020, 1, 8);
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(firstTrialDay);
+            target.provide();
+            mock.when(LocalDate::now).thenReturn(secondTrialDay);
+            target.provide();
+            verify(target, times(1)).doProvide();
+            mock.when(LocalDate::now).thenReturn(thirdTrialDay);
+            assertThat(target.provide().toCompletableFuture().join()).isSameAs(metadataBLOB);
+            verify(target, times(2)).doProvide();
+            // a background refresh is started at most once a day
+            target.provide();
+            verify(target, times(2)).doProvide();
+        }
+    }
+
+    @Test
+    void failed_proactive_refresh_is_not_retried_on_the_same_day_test(){
+        LocalDate nextUpdate = LocalDate.of(2020, 1, 10);
+        MetadataBLOB metadataBLOB = createMetadataBLOB(nextUpdate);
+        CachingMetadataBLOBAsyncProvider target = spy(CachingMetadataBLOBAsyncProvider.class);
+        when(target.doProvide())
+                .thenReturn(CompletableFuture.completedFuture(metadataBLOB))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("unavailable")))
+                .thenReturn(CompletableFuture.completedFuture(metadataBLOB));
+        target.setRefreshAhead(Duration.ofDays(3));
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 1));
+            target.provide();
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 8));
+            assertThat(target.provide().toCompletableFuture().join()).isSameAs(metadataBLOB);
+            verify(target, times(2)).doProvide();
+            // the cached BLOB keeps being served without hitting the failing upstream again
+            assertThat(target.provide().toCompletableFuture().join()).isSameAs(metadataBLOB);
+            assertThat(target.provide().toCompletableFuture().join()).isSameAs(metadataBLOB);
+            verify(target, times(2)).doProvide();
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 9));
+            target.provide();
+            verify(target, times(3)).doProvide();
+        }
+    }
+
     private MetadataBLOB createMetadataBLOB(LocalDate nextUpdate){
         JWSFactory factory = new JWSFactory(new ObjectConverter());
         JWSHeader header = new JWSHeader(JWAIdentifier.ES256, null);
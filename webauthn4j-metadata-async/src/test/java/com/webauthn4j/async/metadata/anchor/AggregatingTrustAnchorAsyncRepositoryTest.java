@@ -6,13 +6,14 @@ import org.junit.jupiter.api.Test;
 
 import java.security.cert.TrustAnchor;
 import java.util.Collections;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
 
 class AggregatingTrustAnchorAsyncRepositoryTest {
 
@@ -42,4 +43,35 @@ class AggregatingTrustAnchorAsyncRepositoryTest {
         assertThat(target.find(attestationCertificateKeyIdentifier).toCompletableFuture().get()).containsExactlyInAnyOrder(trustAnchorA, trustAnchorB);
     }
 
-}
\ No newline at end of file
+    @Test
+    void find_by_aaguid_queries_children_concurrently_test() throws ExecutionException, InterruptedException {
+        AAGUID aaguid = new AAGUID(UUID.randomUUID());
+        TrustAnchor trustAnchorA = mock(TrustAnchor.class);
+        TrustAnchor trustAnchorB = mock(TrustAnchor.class);
+        CompletableFuture<Set<TrustAnchor>> pendingA = new CompletableFuture<>();
+        TrustAnchorAsyncRepository mockA = mock(TrustAnchorAsyncRepository.class);
+        TrustAnchorAsyncRepository mockB = mock(TrustAnchorAsyncRepository.class);
+        when(mockA.find(aaguid)).thenReturn(pendingA);
+        when(mockB.find(aaguid)).thenReturn(CompletableFuture.completedFuture(Collections.singleton(trustAnchorB)));
+        TrustAnchorAsyncRepository target = new AggregatingTrustAnchorAsyncRepository(mockA, mockB);
+
+        CompletableFuture<Set<TrustAnchor>> result = target.find(aaguid).toCompletableFuture();
+        verify(mockB).find(aaguid);
+        assertThat(result).isNotDone();
+        pendingA.complete(Collections.singleton(trustAnchorA));
+        assertThat(result.get()).containsExactlyInAnyOrder(trustAnchorA, trustAnchorB);
+    }
+
+    @Test
+    void find_by_aaguid_with_child_throwing_synchronously_test() {
+        AAGUID aaguid = new AAGUID(UUID.randomUUID());
+        TrustAnchorAsyncRepository mockA = mock(TrustAnchorAsyncRepository.class);
+        TrustAnchorAsyncRepository mockB = mock(TrustAnchorAsyncRepository.class);
+        when(mockA.find(aaguid)).thenThrow(new IllegalStateException("unavailable"));
+        when(mockB.find(aaguid)).thenReturn(CompletableFuture.completedFuture(Collections.emptySet()));
+        TrustAnchorAsyncRepository target = new AggregatingTrustAnchorAsyncRepository(mockA, mockB);
+
+        assertThatThrownBy(() -> target.find(aaguid).toCompletableFuture().get()).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+}
@@ -17,30 +17,63 @@
 package com.webauthn4j.metadata;
 
 import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.util.AssertUtil;
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Base class for {@link MetadataBLOBProvider}s which cache the {@link MetadataBLOB} until its nextUpdate.
+ * <p>
+ * By default, an expired BLOB is refreshed on the thread calling {@link #provide()}. Once
+ * {@link #startBackgroundRefresh(ScheduledExecutorService)} is called, refresh is performed by a scheduled task instead,
+ * and {@link #provide()} keeps serving the last good BLOB while it is fetched. Failed refreshes are retried with
+ * exponential backoff. If the served BLOB gets older than {@link #getMaxStaleness()} past its nextUpdate, the request
+ * thread falls back to a synchronous refresh.
+ */
 public abstract class CachingMetadataBLOBProvider implements MetadataBLOBProvider {
 
-    private MetadataBLOB cachedMetadataBLOB;
-    private LocalDate cachedMetadataBLOBLastUpdate = null;
+    private final Logger logger = LoggerFactory.getLogger(CachingMetadataBLOBProvider.class);
+
+    private volatile MetadataBLOB cachedMetadataBLOB;
+    private volatile LocalDate cachedMetadataBLOBLastUpdate = null;
     private final Object cachedMetadataBLOBLock = new Object();
 
+    private Duration backgroundRefreshInterval = Duration.ofHours(1);
+    private Duration retryInitialBackoff = Duration.ofMinutes(1);
+    private Duration retryMaxBackoff = Duration.ofHours(1);
+    private Duration maxStaleness = Duration.ofDays(7);
+
+    private final Object backgroundRefreshLock = new Object();
+    private ScheduledExecutorService backgroundRefreshScheduler;
+    private boolean backgroundRefreshSchedulerOwned;
+    private volatile boolean backgroundRefreshActive;
+    private Duration currentRetryBackoff;
+
     @Override
     public @NotNull MetadataBLOB provide(){
-        synchronized (cachedMetadataBLOBLock){
-            if(cachedMetadataBLOB == null){
-                refresh();
+        MetadataBLOB metadataBLOB = cachedMetadataBLOB;
+        if(metadataBLOB == null){
+            synchronized (cachedMetadataBLOBLock){
+                if(cachedMetadataBLOB == null){
+                    refresh();
+                }
             }
+            metadataBLOB = cachedMetadataBLOB;
         }
         LocalDate today = LocalDate.now();
-        LocalDate nextUpdate = cachedMetadataBLOB.getPayload().getNextUpdate();
-        if((nextUpdate.isBefore(today) || nextUpdate.isEqual(today)) && cachedMetadataBLOBLastUpdate.isBefore(today)){
+        if(isRefreshDue(metadataBLOB, today) && (!backgroundRefreshActive || isMaxStalenessExceeded(metadataBLOB, today))){
             refresh();
+            metadataBLOB = cachedMetadataBLOB;
         }
 
-        return cachedMetadataBLOB;
+        return metadataBLOB;
     }
 
     public void refresh(){
@@ -52,5 +85,154 @@ public abstract class CachingMetadataBLOBProvider implements MetadataBLOBProvide
 
     protected abstract @NotNull MetadataBLOB doProvide();
 
+    /**
+     * Starts refreshing the cached {@link MetadataBLOB} on a dedicated daemon thread.
+     */
+    public void startBackgroundRefresh(){
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "webauthn4j-metadata-blob-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        startBackgroundRefresh(scheduler, true);
+    }
+
+    /**
+     * Starts refreshing the cached {@link MetadataBLOB} on the given scheduler. The scheduler is not shut down by
+     * {@link #stopBackgroundRefresh()}.
+     *
+     * @param scheduler scheduler to run refresh tasks on
+     */
+    public void startBackgroundRefresh(@NotNull ScheduledExecutorService scheduler){
+        AssertUtil.notNull(scheduler, "scheduler must not be null");
+        startBackgroundRefresh(scheduler, false);
+    }
+
+    private void startBackgroundRefresh(@NotNull ScheduledExecutorService scheduler, boolean owned){
+        synchronized (backgroundRefreshLock){
+            if(backgroundRefreshActive){
+                throw new IllegalStateException("background refresh is already started");
+            }
+            backgroundRefreshScheduler = scheduler;
+            backgroundRefreshSchedulerOwned = owned;
+            backgroundRefreshActive = true;
+            currentRetryBackoff = null;
+            scheduler.schedule(this::runBackgroundRefresh, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops background refresh. Subsequent {@link #provide()} calls refresh the BLOB on the calling thread again.
+     */
+    public void stopBackgroundRefresh(){
+        synchronized (backgroundRefreshLock){
+            if(!backgroundRefreshActive){
+                return;
+            }
+            backgroundRefreshActive = false;
+            if(backgroundRefreshSchedulerOwned){
+                backgroundRefreshScheduler.shutdownNow();
+            }
+            backgroundRefreshScheduler = null;
+        }
+    }
+
+    public boolean isBackgroundRefreshActive() {
+        return backgroundRefreshActive;
+    }
+
+    void runBackgroundRefresh(){
+        if(!backgroundRefreshActive){
+            return;
+        }
+        Duration delay;
+        try{
+            MetadataBLOB metadataBLOB = cachedMetadataBLOB;
+            if(metadataBLOB == null || isRefreshDue(metadataBLOB, LocalDate.now())){
+                MetadataBLOB refreshed = doProvide();
+                synchronized (cachedMetadataBLOBLock){
+                    cachedMetadataBLOB = refreshed;
+                    cachedMetadataBLOBLastUpdate = LocalDate.now();
+                }
+            }
+            delay = backgroundRefreshInterval;
+            synchronized (backgroundRefreshLock){
+                currentRetryBackoff = null;
+            }
+        }
+        catch (RuntimeException e){
+            synchronized (backgroundRefreshLock){
+                currentRetryBackoff = currentRetryBackoff == null ? retryInitialBackoff : min(currentRetryBackoff.multipliedBy(2), retryMaxBackoff);
+                delay = currentRetryBackoff;
+            }
+            logger.warn("Failed to refresh MetadataBLOB. Retrying in {}", delay, e);
+        }
+        synchronized (backgroundRefreshLock){
+            if(backgroundRefreshActive){
+                backgroundRefreshScheduler.schedule(this::runBackgroundRefresh, delay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private boolean isRefreshDue(@NotNull MetadataBLOB metadataBLOB, @NotNull LocalDate today){
+        LocalDate nextUpdate = metadataBLOB.getPayload().getNextUpdate();
+        return (nextUpdate.isBefore(today) || nextUpdate.isEqual(today)) && cachedMetadataBLOBLastUpdate.isBefore(today);
+    }
+
+    private boolean isMaxStalenessExceeded(@NotNull MetadataBLOB metadataBLOB, @NotNull LocalDate today){
+        LocalDate nextUpdate = metadataBLOB.getPayload().getNextUpdate();
+        return nextUpdate.plusDays(maxStaleness.toDays()).isBefore(today);
+    }
+
+    private static Duration min(@NotNull Duration a, @NotNull Duration b){
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    public @NotNull Duration getBackgroundRefreshInterval() {
+        return backgroundRefreshInterval;
+    }
+
+    /**
+     * Sets how often the background task checks whether the cached BLOB has reached its nextUpdate.
+     *
+     * @param backgroundRefreshInterval check interval
+     */
+    public void setBackgroundRefreshInterval(@NotNull Duration backgroundRefreshInterval) {
+        AssertUtil.notNull(backgroundRefreshInterval, "backgroundRefreshInterval must not be null");
+        this.backgroundRefreshInterval = backgroundRefreshInterval;
+    }
+
+    public @NotNull Duration getRetryInitialBackoff() {
+        return retryInitialBackoff;
+    }
+
+    public void setRetryInitialBackoff(@NotNull Duration retryInitialBackoff) {
+        AssertUtil.notNull(retryInitialBackoff, "retryInitialBackoff must not be null");
+        this.retryInitialBackoff = retryInitialBackoff;
+    }
+
+    public @NotNull Duration getRetryMaxBackoff() {
+        return retryMaxBackoff;
+    }
+
+    public void setRetryMaxBackoff(@NotNull Duration retryMaxBackoff) {
+        AssertUtil.notNull(retryMaxBackoff, "retryMaxBackoff must not be null");
+        this.retryMaxBackoff = retryMaxBackoff;
+    }
+
+    public @NotNull Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    /**
+     * Sets how long past its nextUpdate a cached BLOB may be served while background refresh keeps failing.
+     * The value is evaluated with day granularity, as nextUpdate is a date.
+     *
+     * @param maxStaleness maximum staleness
+     */
+    public void setMaxStaleness(@NotNull Duration maxStaleness) {
+        AssertUtil.notNull(maxStaleness, "maxStaleness must not be null");
+        this.maxStaleness = maxStaleness;
+    }
 
 }
@@ -18,17 +18,17 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.util.internal.MetadataIndexCache;
 import com.webauthn4j.metadata.util.internal.MetadataStatementUtil;
-import com.webauthn4j.util.HexUtil;
 
-import java.util.Arrays;
-import java.util.Objects;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public class DefaultMetadataStatementRepository implements MetadataStatementRepository{
 
     private final MetadataStatementsProvider metadataStatementsProvider;
+    private final MetadataIndexCache<List<MetadataStatement>, MetadataStatement> indexCache = new MetadataIndexCache<>(MetadataStatementUtil::createIndex);
 
     public DefaultMetadataStatementRepository(MetadataStatementsProvider metadataStatementsProvider) {
         this.metadataStatementsProvider = metadataStatementsProvider;
@@ -36,21 +36,14 @@ public class DefaultMetadataStatementRepository implements MetadataStatementRepo
 
     @Override
     public Set<MetadataStatement> find(AAGUID aaguid) {
-        return metadataStatementsProvider.provide().stream()
-                .filter(entry -> Objects.equals(entry.getAaguid(), aaguid))
+        return indexCache.get(metadataStatementsProvider.provide()).find(aaguid).stream()
                 .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
                 .collect(Collectors.toSet());
     }
 
     @Override
     public Set<MetadataStatement> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataStatementsProvider.provide().stream()
-                .filter(entry -> {
-                    if(entry == null || entry.getAttestationCertificateKeyIdentifiers() == null){
-                        return false;
-                    }
-                    return entry.getAttestationCertificateKeyIdentifiers().stream().anyMatch(identifier -> Arrays.equals(HexUtil.decode(identifier), attestationCertificateKeyIdentifier));
-                })
+        return indexCache.get(metadataStatementsProvider.provide()).find(attestationCertificateKeyIdentifier).stream()
                 .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
                 .collect(Collectors.toSet());
     }
@@ -22,19 +22,38 @@ import com.webauthn4j.metadata.data.MetadataBLOBFactory;
 import com.webauthn4j.metadata.exception.CertPathCheckException;
 import com.webauthn4j.metadata.exception.MDSException;
 import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.verifier.attestation.trustworthiness.certpath.CachingCRLStore;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 
 /**
- * Load MetadataBLOB from a local file. This provider validates MetadataBLOB signature.
+ * Load MetadataBLOB from FIDO Metadata Service. This provider validates MetadataBLOB signature.
+ * <p>
+ * Once a cache file is configured through {@link #setCacheFile(Path)}, the last verified BLOB is persisted together
+ * with its ETag, Last-Modified and serial number. On startup, the BLOB is loaded from the file and re-verified locally,
+ * and it is used without network access until its nextUpdate. After that, the BLOB is re-fetched with a conditional
+ * request and only downloaded when the server reports a change.
  */
 public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
 
@@ -45,9 +64,16 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
     private final HttpClient httpClient;
     private final Set<TrustAnchor> trustAnchors;
     private boolean revocationCheckEnabled = true;
+    private CachingCRLStore crlStore;
 
     private CertPathChecker certPathChecker = new DefaultCertPathChecker();
 
+    private final Logger logger = LoggerFactory.getLogger(FidoMDS3MetadataBLOBProvider.class);
+    private final Object fetchLock = new Object();
+    private Path cacheFile;
+    private boolean cacheFileLoaded = false;
+    private VerifiedMetadataBLOB lastVerifiedMetadataBLOB;
+
     public FidoMDS3MetadataBLOBProvider(@NotNull ObjectConverter objectConverter, @NotNull String blobEndpoint, @NotNull HttpClient httpClient, @NotNull Set<TrustAnchor> trustAnchors) {
         this.metadataBLOBFactory = new MetadataBLOBFactory(objectConverter);
         this.blobEndpoint = blobEndpoint;
@@ -73,16 +99,56 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
 
     @Override
     protected @NotNull MetadataBLOB doProvide() {
-        String responseBody;
-        try {
-            InputStream inputStream = httpClient.fetch(blobEndpoint).getBody();
-            byte[] bytes = inputStream.readAllBytes();
-            responseBody = new String(bytes, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new MDSException("Failed to parse response as String", e);
+        synchronized (fetchLock) {
+            if (cacheFile != null && !cacheFileLoaded) {
+                cacheFileLoaded = true;
+                VerifiedMetadataBLOB stored = loadCacheFile(cacheFile);
+                if (stored != null) {
+                    lastVerifiedMetadataBLOB = stored;
+                    if (stored.metadataBLOB.getPayload().getNextUpdate().isAfter(LocalDate.now())) {
+                        return stored.metadataBLOB;
+                    }
+                }
+            }
+
+            VerifiedMetadataBLOB previous = lastVerifiedMetadataBLOB;
+            Map<String, String> requestHeaders = previous == null ? Collections.emptyMap() : previous.createConditionalRequestHeaders();
+            HttpClient.Response response = requestHeaders.isEmpty() ? httpClient.fetch(blobEndpoint) : httpClient.fetch(blobEndpoint, requestHeaders);
+            if (response.getStatusCode() == 304) {
+                if (previous == null) {
+                    throw new MDSException("Unexpected 304 response for an unconditional request");
+                }
+                return previous.metadataBLOB;
+            }
+
+            byte[] responseBody;
+            try {
+                InputStream inputStream = response.getBody();
+                responseBody = inputStream.readAllBytes();
+            } catch (IOException e) {
+                throw new MDSException("Failed to read response", e);
+            }
+
+            MetadataBLOB metadataBLOB = parseAndVerify(responseBody);
+            if (previous != null && isOlderThan(metadataBLOB, previous.metadataBLOB)) {
+                logger.warn("Fetched MetadataBLOB (no: {}) is older than the cached one (no: {}). Keeping the cached one.", metadataBLOB.getPayload().getNo(), previous.metadataBLOB.getPayload().getNo());
+                return previous.metadataBLOB;
+            }
+            VerifiedMetadataBLOB verified = new VerifiedMetadataBLOB(responseBody, metadataBLOB, response.getHeader("ETag"), response.getHeader("Last-Modified"));
+            lastVerifiedMetadataBLOB = verified;
+            if (cacheFile != null) {
+                try {
+                    writeCacheFile(cacheFile, verified);
+                } catch (UncheckedIOException e) {
+                    logger.warn("Failed to write MetadataBLOB cache file {}", cacheFile, e);
+                }
+            }
+            return metadataBLOB;
         }
+    }
 
-        MetadataBLOB metadataBLOB = metadataBLOBFactory.parse(responseBody);
+    private @NotNull MetadataBLOB parseAndVerify(@NotNull byte[] value) {
+        MetadataBLOB metadataBLOB = metadataBLOBFactory.parse(value);
         if(!metadataBLOB.isValidSignature()){
             throw new MDSException("MetadataBLOB signature is invalid");
         }
@@ -90,6 +156,66 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
         return metadataBLOB;
     }
 
+    private static boolean isOlderThan(@NotNull MetadataBLOB metadataBLOB, @NotNull MetadataBLOB other) {
+        Integer no = metadataBLOB.getPayload().getNo();
+        Integer otherNo = other.getPayload().getNo();
+        return no != null && otherNo != null && no < otherNo;
+    }
+
+    private @Nullable VerifiedMetadataBLOB loadCacheFile(@NotNull Path path) {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            byte[] value = Files.readAllBytes(path);
+            MetadataBLOB metadataBLOB = parseAndVerify(value);
+            Properties properties = new Properties();
+            Path propertiesPath = getCacheMetadataFile(path);
+            if (Files.exists(propertiesPath)) {
+                try (Reader reader = Files.newBufferedReader(propertiesPath, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            }
+            // validators are only trusted when they were written for the same BLOB
+            if (!String.valueOf(metadataBLOB.getPayload().getNo()).equals(properties.getProperty("no"))) {
+                return new VerifiedMetadataBLOB(value, metadataBLOB, null, null);
+            }
+            return new VerifiedMetadataBLOB(value, metadataBLOB, properties.getProperty("etag"), properties.getProperty("lastModified"));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to load MetadataBLOB cache file {}. Ignoring it.", path, e);
+            return null;
+        }
+    }
+
+    private static void writeCacheFile(@NotNull Path path, @NotNull VerifiedMetadataBLOB verified) {
+        Properties properties = new Properties();
+        properties.setProperty("no", String.valueOf(verified.metadataBLOB.getPayload().getNo()));
+        if (verified.etag != null) {
+            properties.setProperty("etag", verified.etag);
+        }
+        if (verified.lastModified != null) {
+            properties.setProperty("lastModified", verified.lastModified);
+        }
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path blobTemp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            Files.write(blobTemp, verified.value);
+            Files.move(blobTemp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Path propertiesTemp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(propertiesTemp)) {
+                properties.store(outputStream, null);
+            }
+            Files.move(propertiesTemp, getCacheMetadataFile(path), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static @NotNull Path getCacheMetadataFile(@NotNull Path path) {
+        return path.resolveSibling(path.getFileName() + ".properties");
+    }
+
     private void validateCertPath(@NotNull MetadataBLOB metadataBLOB) {
         CertPath certPath = metadataBLOB.getHeader().getX5c();
         try{
@@ -109,6 +235,39 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
         this.revocationCheckEnabled = revocationCheckEnabled;
     }
 
+    public @Nullable CachingCRLStore getCRLStore() {
+        return crlStore;
+    }
+
+    /**
+     * Sets the CRL store used for revocation check of the MetadataBLOB certificate chain by the default
+     * {@link CertPathChecker}. Without it, CRLs are fetched during validation. The store is read only; register the
+     * distribution points of the MDS root and intermediate CA certificates and refresh it separately, see
+     * {@link CachingCRLStore}.
+     *
+     * @param crlStore CRL store, or null to fetch CRLs during validation
+     */
+    public void setCRLStore(@Nullable CachingCRLStore crlStore) {
+        this.crlStore = crlStore;
+    }
+
+    public @Nullable Path getCacheFile() {
+        return cacheFile;
+    }
+
+    /**
+     * Sets the file to persist the last verified MetadataBLOB to. Its validators are stored next to it with
+     * ".properties" suffix.
+     *
+     * @param cacheFile cache file path, or null to disable the disk cache
+     */
+    public void setCacheFile(@Nullable Path cacheFile) {
+        synchronized (fetchLock) {
+            this.cacheFile = cacheFile;
+            this.cacheFileLoaded = false;
+        }
+    }
+
     public @NotNull CertPathChecker getCertPathChecker() {
         return certPathChecker;
     }
@@ -117,6 +276,31 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
         this.certPathChecker = certPathChecker;
     }
 
+    private static class VerifiedMetadataBLOB {
+        private final byte[] value;
+        private final MetadataBLOB metadataBLOB;
+        private final String etag;
+        private final String lastModified;
+
+        private VerifiedMetadataBLOB(@NotNull byte[] value, @NotNull MetadataBLOB metadataBLOB, @Nullable String etag, @Nullable String lastModified) {
+            this.value = value;
+            this.metadataBLOB = metadataBLOB;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        private @NotNull Map<String, String> createConditionalRequestHeaders() {
+            Map<String, String> headers = new HashMap<>();
+            if (etag != null) {
+                headers.put("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                headers.put("If-Modified-Since", lastModified);
+            }
+            return headers;
+        }
+    }
+
     private class DefaultCertPathChecker implements CertPathChecker {
 
         @Override
@@ -124,7 +308,11 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
             CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
             PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
             certPathParameters.setRevocationEnabled(revocationCheckEnabled);
-            if(revocationCheckEnabled){
+            CachingCRLStore store = crlStore;
+            if(revocationCheckEnabled && store != null){
+                store.configure(certPathValidator, certPathParameters);
+            }
+            else if(revocationCheckEnabled){
                 PKIXRevocationChecker pkixRevocationChecker = (PKIXRevocationChecker) certPathValidator.getRevocationChecker();
                 pkixRevocationChecker.setOptions(EnumSet.of(PKIXRevocationChecker.Option.PREFER_CRLS));
                 certPathParameters.addCertPathChecker(pkixRevocationChecker);
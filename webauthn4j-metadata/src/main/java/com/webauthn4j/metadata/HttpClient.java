@@ -18,8 +18,12 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.metadata.exception.MDSException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 /**
  * HTTP Client for FIDO MetadataItemImpl Service
@@ -28,14 +32,34 @@ public interface HttpClient {
 
     @NotNull Response fetch(@NotNull String uri) throws MDSException;
 
+    /**
+     * Fetches the resource with additional request headers such as If-None-Match or If-Modified-Since.
+     * Implementations supporting conditional requests should return a 304 (Not Modified) response as is instead of
+     * throwing an exception. The default implementation ignores the headers.
+     *
+     * @param uri            uri to fetch
+     * @param requestHeaders request headers
+     * @return response
+     * @throws MDSException if the resource cannot be fetched
+     */
+    default @NotNull Response fetch(@NotNull String uri, @NotNull Map<String, String> requestHeaders) throws MDSException {
+        return fetch(uri);
+    }
+
     class Response{
 
         private final int statusCode;
         private final InputStream body;
+        private final Map<String, List<String>> headers;
 
-        public Response(int statusCode, InputStream body) {
+        public Response(int statusCode, InputStream body, Map<String, List<String>> headers) {
             this.statusCode = statusCode;
             this.body = body;
+            this.headers = headers == null ? Collections.emptyMap() : headers;
+        }
+
+        public Response(int statusCode, InputStream body) {
+            this(statusCode, body, Collections.emptyMap());
         }
 
         public int getStatusCode() {
@@ -45,6 +69,25 @@ public interface HttpClient {
         public InputStream getBody() {
             return body;
         }
+
+        public @NotNull Map<String, List<String>> getHeaders() {
+            return headers;
+        }
+
+        /**
+         * Returns the first value of the header, matching the name case-insensitively.
+         *
+         * @param name header name
+         * @return header value, or null if absent
+         */
+        public @Nullable String getHeader(@NotNull String name) {
+            for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+                if (name.equalsIgnoreCase(entry.getKey()) && entry.getValue() != null && !entry.getValue().isEmpty()) {
+                    return entry.getValue().get(0);
+                }
+            }
+            return null;
+        }
     }
 
 }
@@ -18,6 +18,8 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.util.internal.LocalFilesCache;
+import com.webauthn4j.util.AssertUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
@@ -25,28 +27,82 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * Loads {@link MetadataStatement}s from local JSON files. By default, the files are read on every {@link #provide()}
+ * call. When caching is enabled, they are parsed once and only changed files are reloaded, checking modification
+ * times at most once per poll interval.
+ * <p>
+ * Without caching, every call returns a new list, so repositories rebuild their derived indexes on every lookup.
+ * Enable caching when the provider serves lookups on a hot path.
+ */
 public class LocalFilesMetadataStatementsProvider implements MetadataStatementsProvider {
 
     private final ObjectConverter objectConverter;
     private final Path[] paths;
+    private final LocalFilesCache<MetadataStatement> cache;
+    private boolean cachingEnabled = false;
 
     public LocalFilesMetadataStatementsProvider(ObjectConverter objectConverter, Path... paths){
         this.objectConverter = objectConverter;
         this.paths = paths;
+        this.cache = new LocalFilesCache<>(paths, bytes -> objectConverter.getJsonConverter().readValue(bytes, MetadataStatement.class));
     }
 
     @Override
     public @NotNull List<MetadataStatement> provide() {
+        if (cachingEnabled) {
+            return cache.get(LocalFilesMetadataStatementsProvider::readFile);
+        }
         return Arrays.stream(paths).map(path ->{
             try (InputStream inputStream = Files.newInputStream(path)) {
                 return objectConverter.getJsonConverter().readValue(inputStream, MetadataStatement.class);
             } catch (IOException e) {
                 throw new UncheckedIOException("Failed to load a MetadataStatements file", e);
             }
-        }).collect(Collectors.toList());
+        }).collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+    }
+
+    /**
+     * Returns true while caching is enabled, as only then the same list is returned until a file changes.
+     */
+    @Override
+    public boolean isStable() {
+        return cachingEnabled;
+    }
+
+    public boolean isCachingEnabled() {
+        return cachingEnabled;
+    }
+
+    public void setCachingEnabled(boolean cachingEnabled) {
+        this.cachingEnabled = cachingEnabled;
+    }
+
+    public @NotNull Duration getPollInterval() {
+        return cache.getPollInterval();
+    }
+
+    /**
+     * Sets how often file modification times are checked while caching is enabled.
+     *
+     * @param pollInterval poll interval
+     */
+    public void setPollInterval(@NotNull Duration pollInterval) {
+        AssertUtil.notNull(pollInterval, "pollInterval must not be null");
+        cache.setPollInterval(pollInterval);
+    }
+
+    private static byte[] readFile(Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load a MetadataStatements file", e);
+        }
     }
 }
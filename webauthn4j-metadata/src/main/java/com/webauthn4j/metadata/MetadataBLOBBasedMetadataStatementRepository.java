@@ -17,34 +17,41 @@
 package com.webauthn4j.metadata;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
 import com.webauthn4j.metadata.util.internal.MetadataBLOBUtil;
+import com.webauthn4j.metadata.util.internal.MetadataIndex;
+import com.webauthn4j.metadata.util.internal.MetadataIndexCache;
 import com.webauthn4j.metadata.util.internal.MetadataStatementUtil;
 import com.webauthn4j.util.HexUtil;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class MetadataBLOBBasedMetadataStatementRepository implements MetadataStatementRepository {
 
     private final List<MetadataBLOBProvider> metadataBLOBProviders;
+    private final List<MetadataIndexCache<MetadataBLOB, MetadataBLOBPayloadEntry>> indexCaches;
 
     private boolean notFidoCertifiedAllowed = false;
     private boolean selfAssertionSubmittedAllowed = false;
 
     public MetadataBLOBBasedMetadataStatementRepository(MetadataBLOBProvider... metadataBLOBProviders) {
         this.metadataBLOBProviders = Arrays.asList(metadataBLOBProviders);
+        this.indexCaches = this.metadataBLOBProviders.stream()
+                .map(provider -> new MetadataIndexCache<>(MetadataBLOBUtil::createIndex))
+                .collect(Collectors.toList());
     }
 
     @Override
     public Set<MetadataStatement> find(AAGUID aaguid) {
-        return metadataBLOBProviders.stream()
-                .flatMap(provider -> provider.provide().getPayload().getEntries().stream())
-                .filter(entry -> Objects.equals(entry.getAaguid(), aaguid))
+        return findEntries(index -> index.find(aaguid))
                 .filter(entry -> MetadataBLOBUtil.checkMetadataBLOBPayloadEntry(entry, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed))
                 .map(MetadataBLOBPayloadEntry::getMetadataStatement)
                 .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
@@ -53,14 +60,18 @@ public class MetadataBLOBBasedMetadataStatementRepository implements MetadataSta
 
     @Override
     public Set<MetadataStatement> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataBLOBProviders.stream()
-                .flatMap(provider -> provider.provide().getPayload().getEntries().stream())
-                .filter(entry -> matchAttestationCertificateKeyIdentifier(entry, attestationCertificateKeyIdentifier))
+        return findEntries(index -> index.find(attestationCertificateKeyIdentifier))
                 .map(MetadataBLOBPayloadEntry::getMetadataStatement)
                 .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
                 .collect(Collectors.toSet());
     }
 
+    private Stream<MetadataBLOBPayloadEntry> findEntries(Function<MetadataIndex<MetadataBLOBPayloadEntry>, List<MetadataBLOBPayloadEntry>> lookup) {
+        return IntStream.range(0, metadataBLOBProviders.size())
+                .mapToObj(i -> indexCaches.get(i).get(metadataBLOBProviders.get(i).provide()))
+                .flatMap(index -> lookup.apply(index).stream());
+    }
+
     public static boolean matchAttestationCertificateKeyIdentifier(MetadataBLOBPayloadEntry entry, byte[] attestationCertificateKeyIdentifier) {
         MetadataStatement metadataStatement = entry.getMetadataStatement();
         if(metadataStatement == null || metadataStatement.getAttestationCertificateKeyIdentifiers() == null){
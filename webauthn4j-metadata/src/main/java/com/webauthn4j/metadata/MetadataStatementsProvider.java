@@ -21,7 +21,25 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 
+/**
+ * Provides {@link MetadataStatement}s.
+ * <p>
+ * Repositories cache data derived from the provided list, such as lookup indexes and trust anchor sets, keyed on
+ * the identity of the returned instance. An implementation must not modify an instance after handing it out, and
+ * should keep returning the same instance until the contents change, then return a new one. An implementation that
+ * returns a new instance on every call is still correct, but the derived data is rebuilt on every lookup.
+ */
 public interface MetadataStatementsProvider {
 
     @NotNull List<MetadataStatement> provide();
+
+    /**
+     * Returns whether {@link #provide()} keeps returning the same instance until the contents change. Repositories
+     * report a version of their trust anchors, letting callers cache lookup results, only for such providers.
+     *
+     * @return true if the same instance is returned until the contents change
+     */
+    default boolean isStable() {
+        return false;
+    }
 }
@@ -23,6 +23,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Tiny implementation of {@link HttpClient}. If you prefer more powerful one, implement {@link HttpClient} with
@@ -32,21 +36,36 @@ public class SimpleHttpClient implements HttpClient {
 
     @Override
     public @NotNull Response fetch(@NotNull String url) {
+        return fetch(url, Collections.emptyMap());
+    }
+
+    @Override
+    public @NotNull Response fetch(@NotNull String url, @NotNull Map<String, String> requestHeaders) {
         try {
             URL fetchUrl = new URL(url);
             HttpURLConnection urlConnection = (HttpURLConnection) fetchUrl.openConnection();
             urlConnection.setRequestMethod("GET");
+            requestHeaders.forEach(urlConnection::setRequestProperty);
             urlConnection.connect();
 
             int status = urlConnection.getResponseCode();
 
             if (status == HttpURLConnection.HTTP_OK) {
                 InputStream inputStream = urlConnection.getInputStream();
-                return new Response(status, inputStream);
+                return new Response(status, inputStream, getResponseHeaders(urlConnection));
+            }
+            if (status == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return new Response(status, InputStream.nullInputStream(), getResponseHeaders(urlConnection));
             }
             throw new MDSException("failed to fetch " + url);
         } catch (IOException e) {
             throw new MDSException("failed to fetch " + url, e);
         }
     }
+
+    private static Map<String, List<String>> getResponseHeaders(HttpURLConnection urlConnection) {
+        Map<String, List<String>> headers = new HashMap<>(urlConnection.getHeaderFields());
+        headers.remove(null); // status line
+        return headers;
+    }
 }
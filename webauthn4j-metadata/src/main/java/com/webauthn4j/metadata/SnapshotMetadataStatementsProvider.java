@@ -0,0 +1,201 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.webauthn4j.converter.util.CborConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.exception.MDSException;
+import com.webauthn4j.metadata.util.internal.MetadataBLOBUtil;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Provides {@link MetadataStatement}s from a precompiled binary snapshot file.
+ * <p>
+ * A snapshot is a CBOR encoded list of metadata statements without data unused for attestation and policy decisions
+ * (icon and authenticatorGetInfo). It is meant to be produced once, by one node or a build step, from metadata which
+ * has already been verified (e.g. a {@link MetadataBLOB} provided by {@link FidoMDS3MetadataBLOBProvider}), and to be
+ * loaded by every other node at startup without downloading, signature verification and JSON parsing. The snapshot
+ * file is trusted as is. It is memory-mapped and parsed once; the same immutable list is returned afterwards.
+ */
+public class SnapshotMetadataStatementsProvider implements MetadataStatementsProvider {
+
+    private static final byte[] MAGIC = "W4JMSS".getBytes(StandardCharsets.US_ASCII);
+    private static final byte FORMAT_VERSION = 1;
+    private static final List<String> OMITTED_FIELDS = Arrays.asList("icon", "authenticatorGetInfo");
+
+    private final CborConverter cborConverter;
+    private final Path path;
+    private final Object loadLock = new Object();
+    private volatile List<MetadataStatement> metadataStatements;
+
+    public SnapshotMetadataStatementsProvider(@NotNull ObjectConverter objectConverter, @NotNull Path path) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        AssertUtil.notNull(path, "path must not be null");
+        this.cborConverter = objectConverter.getCborConverter();
+        this.path = path;
+    }
+
+    @Override
+    public @NotNull List<MetadataStatement> provide() {
+        List<MetadataStatement> loaded = metadataStatements;
+        if (loaded == null) {
+            synchronized (loadLock) {
+                loaded = metadataStatements;
+                if (loaded == null) {
+                    loaded = Collections.unmodifiableList(read(cborConverter, path));
+                    metadataStatements = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    /**
+     * Writes a snapshot of the given metadata statements.
+     *
+     * @param objectConverter    objectConverter
+     * @param path               snapshot file path. The file is replaced atomically.
+     * @param metadataStatements metadata statements
+     */
+    public static void write(@NotNull ObjectConverter objectConverter, @NotNull Path path, @NotNull List<MetadataStatement> metadataStatements) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        AssertUtil.notNull(path, "path must not be null");
+        AssertUtil.notNull(metadataStatements, "metadataStatements must not be null");
+
+        CborConverter cborConverter = objectConverter.getCborConverter();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(MAGIC, 0, MAGIC.length);
+        outputStream.write(FORMAT_VERSION);
+        List<JsonNode> nodes = metadataStatements.stream().map(metadataStatement -> {
+            JsonNode node = cborConverter.readTree(cborConverter.writeValueAsBytes(metadataStatement));
+            ((ObjectNode) node).remove(OMITTED_FIELDS);
+            return node;
+        }).collect(Collectors.toList());
+        byte[] body = cborConverter.writeValueAsBytes(nodes);
+        outputStream.write(body, 0, body.length);
+
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            Files.write(temp, outputStream.toByteArray());
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write a MetadataStatements snapshot", e);
+        }
+    }
+
+    /**
+     * Writes a snapshot of the metadata statements in a verified {@link MetadataBLOB}. Entries are filtered by their
+     * status reports in the same way as {@link MetadataBLOBBasedMetadataStatementRepository}, as status reports are
+     * not part of the snapshot.
+     *
+     * @param objectConverter               objectConverter
+     * @param path                          snapshot file path. The file is replaced atomically.
+     * @param metadataBLOB                  verified MetadataBLOB
+     * @param notFidoCertifiedAllowed       whether entries with NOT_FIDO_CERTIFIED status are included
+     * @param selfAssertionSubmittedAllowed whether entries with SELF_ASSERTION_SUBMITTED status are included
+     */
+    public static void write(@NotNull ObjectConverter objectConverter, @NotNull Path path, @NotNull MetadataBLOB metadataBLOB, boolean notFidoCertifiedAllowed, boolean selfAssertionSubmittedAllowed) {
+        AssertUtil.notNull(metadataBLOB, "metadataBLOB must not be null");
+        List<MetadataStatement> metadataStatements = metadataBLOB.getPayload().getEntries().stream()
+                .filter(entry -> MetadataBLOBUtil.checkMetadataBLOBPayloadEntry(entry, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed))
+                .map(MetadataBLOBPayloadEntry::getMetadataStatement)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        write(objectConverter, path, metadataStatements);
+    }
+
+    private static @NotNull List<MetadataStatement> read(@NotNull CborConverter cborConverter, @NotNull Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] header = new byte[MAGIC.length + 1];
+            if (buffer.remaining() < header.length) {
+                throw new MDSException("Invalid MetadataStatements snapshot: " + path);
+            }
+            buffer.get(header);
+            if (!Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC) || header[MAGIC.length] != FORMAT_VERSION) {
+                throw new MDSException("Unsupported MetadataStatements snapshot format: " + path);
+            }
+            List<MetadataStatement> list = cborConverter.readValue(new ByteBufferInputStream(buffer), new TypeReference<List<MetadataStatement>>() {});
+            return list == null ? Collections.emptyList() : list;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load a MetadataStatements snapshot", e);
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(@NotNull byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -19,31 +19,131 @@ package com.webauthn4j.metadata.anchor;
 import com.webauthn4j.anchor.TrustAnchorRepository;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 
+import java.nio.ByteBuffer;
 import java.security.cert.TrustAnchor;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Aggregates trust anchors of multiple {@link TrustAnchorRepository}s.
+ * <p>
+ * When every child repository reports a version through {@link TrustAnchorRepository#getVersion()}, merged results are
+ * cached per lookup key until any child version changes. Otherwise, children are queried on every lookup.
+ */
 public class AggregatingTrustAnchorRepository implements TrustAnchorRepository {
 
+    // Lookup keys are chosen by clients, and a child like KeyStoreTrustAnchorRepository returns trust anchors for any key.
+    // The bound keeps the cache from growing without limit.
+    private static final int MAX_CACHED_ENTRIES = 1024;
+
     List<TrustAnchorRepository> repositories;
 
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile MergedResults mergedResults;
+
     public AggregatingTrustAnchorRepository(TrustAnchorRepository... repositories) {
         this.repositories = Arrays.asList(repositories);
     }
 
     @Override
     public Set<TrustAnchor> find(AAGUID aaguid) {
-        return repositories.stream()
-                .flatMap(repository -> repository.find(aaguid).stream())
-                .collect(Collectors.toSet());
+        MergedResults current = getCurrentMergedResults();
+        if (current == null || aaguid == null) {
+            return merge(repositories.stream()
+                    .map(repository -> repository.find(aaguid))
+                    .collect(Collectors.toList()));
+        }
+        return current.get(current.aaguidResults, aaguid, key -> merge(repositories.stream()
+                .map(repository -> repository.find(key))
+                .collect(Collectors.toList())));
     }
 
     @Override
     public Set<TrustAnchor> find(byte[] attestationCertificateKeyIdentifier) {
-        return repositories.stream()
-                .flatMap(repository -> repository.find(attestationCertificateKeyIdentifier).stream())
-                .collect(Collectors.toSet());
+        MergedResults current = getCurrentMergedResults();
+        if (current == null || attestationCertificateKeyIdentifier == null) {
+            return merge(repositories.stream()
+                    .map(repository -> repository.find(attestationCertificateKeyIdentifier))
+                    .collect(Collectors.toList()));
+        }
+        return current.get(current.attestationCertificateKeyIdentifierResults, ByteBuffer.wrap(attestationCertificateKeyIdentifier.clone()), key -> merge(repositories.stream()
+                .map(repository -> repository.find(attestationCertificateKeyIdentifier))
+                .collect(Collectors.toList())));
+    }
+
+    /**
+     * Returns a version which changes whenever any child version changes, or {@link #UNKNOWN_VERSION} if any child
+     * doesn't report its version.
+     */
+    @Override
+    public long getVersion() {
+        MergedResults current = getCurrentMergedResults();
+        return current == null ? UNKNOWN_VERSION : current.version;
+    }
+
+    private MergedResults getCurrentMergedResults() {
+        long[] childVersions = new long[repositories.size()];
+        for (int i = 0; i < childVersions.length; i++) {
+            childVersions[i] = repositories.get(i).getVersion();
+            if (childVersions[i] == UNKNOWN_VERSION) {
+                return null;
+            }
+        }
+        MergedResults current = mergedResults;
+        if (current == null || !Arrays.equals(current.childVersions, childVersions)) {
+            current = new MergedResults(childVersions, versionSequence.incrementAndGet());
+            mergedResults = current;
+        }
+        return current;
+    }
+
+    /**
+     * Merges child results. When only one child has trust anchors, its (possibly cached) set is returned as is
+     * instead of being copied.
+     */
+    private Set<TrustAnchor> merge(List<Set<TrustAnchor>> results) {
+        List<Set<TrustAnchor>> nonEmptyResults = results.stream().filter(result -> !result.isEmpty()).collect(Collectors.toList());
+        switch (nonEmptyResults.size()) {
+            case 0:
+                return Collections.emptySet();
+            case 1:
+                return nonEmptyResults.get(0);
+            default:
+                return Collections.unmodifiableSet(nonEmptyResults.stream().flatMap(Set::stream).collect(Collectors.toSet()));
+        }
+    }
+
+    private static class MergedResults {
+        private final long[] childVersions;
+        private final long version;
+        private final Map<AAGUID, Set<TrustAnchor>> aaguidResults = new ConcurrentHashMap<>();
+        private final Map<ByteBuffer, Set<TrustAnchor>> attestationCertificateKeyIdentifierResults = new ConcurrentHashMap<>();
+
+        private MergedResults(long[] childVersions, long version) {
+            this.childVersions = childVersions;
+            this.version = version;
+        }
+
+        private <K> Set<TrustAnchor> get(Map<K, Set<TrustAnchor>> results, K key, Function<K, Set<TrustAnchor>> loader) {
+            Set<TrustAnchor> trustAnchors = results.get(key);
+            if (trustAnchors != null) {
+                return trustAnchors;
+            }
+            trustAnchors = loader.apply(key);
+            if (!trustAnchors.isEmpty()) {
+                if (results.size() >= MAX_CACHED_ENTRIES) {
+                    results.clear();
+                }
+                results.putIfAbsent(key, trustAnchors);
+            }
+            return trustAnchors;
+        }
     }
 }
@@ -20,33 +20,74 @@ import com.webauthn4j.anchor.TrustAnchorRepository;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.metadata.MetadataBLOBBasedMetadataStatementRepository;
 import com.webauthn4j.metadata.MetadataBLOBProvider;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
+import com.webauthn4j.metadata.util.internal.MetadataBLOBUtil;
+import com.webauthn4j.metadata.util.internal.MetadataIndex;
+import com.webauthn4j.metadata.util.internal.MetadataIndexCache;
+import com.webauthn4j.metadata.util.internal.MetadataStatementUtil;
+import com.webauthn4j.metadata.util.internal.TrustAnchorSetCache;
 
+import java.nio.ByteBuffer;
 import java.security.cert.TrustAnchor;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class MetadataBLOBBasedTrustAnchorRepository implements TrustAnchorRepository {
 
     private final MetadataBLOBBasedMetadataStatementRepository metadataBLOBBasedMetadataStatementRepository;
+    private final List<MetadataBLOBProvider> metadataBLOBProviders;
+    private final List<MetadataIndexCache<MetadataBLOB, MetadataBLOBPayloadEntry>> indexCaches;
+    private final TrustAnchorSetCache<AAGUID> aaguidCache = new TrustAnchorSetCache<>();
+    private final TrustAnchorSetCache<ByteBuffer> attestationCertificateKeyIdentifierCache = new TrustAnchorSetCache<>();
 
     public MetadataBLOBBasedTrustAnchorRepository(MetadataBLOBProvider... metadataBLOBProviders) {
         this.metadataBLOBBasedMetadataStatementRepository = new MetadataBLOBBasedMetadataStatementRepository(metadataBLOBProviders);
+        this.metadataBLOBProviders = Arrays.asList(metadataBLOBProviders);
+        this.indexCaches = this.metadataBLOBProviders.stream()
+                .map(provider -> new MetadataIndexCache<>(MetadataBLOBUtil::createIndex))
+                .collect(Collectors.toList());
     }
 
     @Override
     public Set<TrustAnchor> find(AAGUID aaguid) {
-        return metadataBLOBBasedMetadataStatementRepository.find(aaguid).stream()
-                .flatMap(item -> item.getAttestationRootCertificates().stream())
-                .map(item -> new TrustAnchor(item, null))
-                .collect(Collectors.toSet());
+        List<MetadataBLOB> metadataBLOBs = provideMetadataBLOBs();
+        boolean notFidoCertifiedAllowed = isNotFidoCertifiedAllowed();
+        boolean selfAssertionSubmittedAllowed = isSelfAssertionSubmittedAllowed();
+        return aaguidCache.get(metadataBLOBs, aaguid, key ->
+                findEntries(metadataBLOBs, index -> index.find(key))
+                        .filter(entry -> MetadataBLOBUtil.checkMetadataBLOBPayloadEntry(entry, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed))
+                        .map(MetadataBLOBPayloadEntry::getMetadataStatement)
+                        .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
+                        .flatMap(item -> item.getAttestationRootCertificates().stream())
+                        .map(item -> new TrustAnchor(item, null))
+                        .collect(Collectors.toSet()));
     }
 
     @Override
     public Set<TrustAnchor> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataBLOBBasedMetadataStatementRepository.find(attestationCertificateKeyIdentifier).stream()
-                .flatMap(item -> item.getAttestationRootCertificates().stream())
-                .map(item -> new TrustAnchor(item, null))
-                .collect(Collectors.toSet());
+        List<MetadataBLOB> metadataBLOBs = provideMetadataBLOBs();
+        ByteBuffer cacheKey = attestationCertificateKeyIdentifier == null ? null : ByteBuffer.wrap(attestationCertificateKeyIdentifier.clone());
+        return attestationCertificateKeyIdentifierCache.get(metadataBLOBs, cacheKey, key ->
+                findEntries(metadataBLOBs, index -> index.find(attestationCertificateKeyIdentifier))
+                        .map(MetadataBLOBPayloadEntry::getMetadataStatement)
+                        .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
+                        .flatMap(item -> item.getAttestationRootCertificates().stream())
+                        .map(item -> new TrustAnchor(item, null))
+                        .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Returns a version which changes when any provider hands out a refreshed MetadataBLOB, or a filtering setting changes.
+     */
+    @Override
+    public long getVersion() {
+        return aaguidCache.getVersion(provideMetadataBLOBs());
     }
 
     public boolean isNotFidoCertifiedAllowed() {
@@ -55,6 +96,7 @@ public class MetadataBLOBBasedTrustAnchorRepository implements TrustAnchorReposi
 
     public void setNotFidoCertifiedAllowed(boolean notFidoCertifiedAllowed) {
         metadataBLOBBasedMetadataStatementRepository.setNotFidoCertifiedAllowed(notFidoCertifiedAllowed);
+        invalidateCaches();
     }
 
     public boolean isSelfAssertionSubmittedAllowed() {
@@ -63,5 +105,22 @@ public class MetadataBLOBBasedTrustAnchorRepository implements TrustAnchorReposi
 
     public void setSelfAssertionSubmittedAllowed(boolean selfAssertionSubmittedAllowed) {
         metadataBLOBBasedMetadataStatementRepository.setSelfAssertionSubmittedAllowed(selfAssertionSubmittedAllowed);
+        invalidateCaches();
+    }
+
+    private List<MetadataBLOB> provideMetadataBLOBs() {
+        return metadataBLOBProviders.stream().map(MetadataBLOBProvider::provide).collect(Collectors.toList());
+    }
+
+    // looks up the BLOBs provided for the cache version check, so that providers are consulted only once per lookup
+    private Stream<MetadataBLOBPayloadEntry> findEntries(List<MetadataBLOB> metadataBLOBs, Function<MetadataIndex<MetadataBLOBPayloadEntry>, List<MetadataBLOBPayloadEntry>> lookup) {
+        return IntStream.range(0, metadataBLOBs.size())
+                .mapToObj(i -> indexCaches.get(i).get(metadataBLOBs.get(i)))
+                .flatMap(index -> lookup.apply(index).stream());
+    }
+
+    private void invalidateCaches() {
+        aaguidCache.invalidate();
+        attestationCertificateKeyIdentifierCache.invalidate();
     }
 }
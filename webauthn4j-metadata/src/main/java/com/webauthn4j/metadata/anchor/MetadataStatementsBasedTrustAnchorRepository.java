@@ -21,18 +21,25 @@ import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.metadata.LocalFilesMetadataStatementsProvider;
 import com.webauthn4j.metadata.MetadataStatementsProvider;
-import com.webauthn4j.util.HexUtil;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.util.internal.MetadataIndexCache;
+import com.webauthn4j.metadata.util.internal.MetadataStatementUtil;
+import com.webauthn4j.metadata.util.internal.TrustAnchorSetCache;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.security.cert.TrustAnchor;
-import java.util.Arrays;
-import java.util.Objects;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 public class MetadataStatementsBasedTrustAnchorRepository implements TrustAnchorRepository {
 
     private final MetadataStatementsProvider metadataStatementsProvider;
+    private final MetadataIndexCache<List<MetadataStatement>, MetadataStatement> indexCache = new MetadataIndexCache<>(MetadataStatementUtil::createIndex);
+    private final TrustAnchorSetCache<AAGUID> aaguidCache = new TrustAnchorSetCache<>();
+    private final TrustAnchorSetCache<ByteBuffer> attestationCertificateKeyIdentifierCache = new TrustAnchorSetCache<>();
 
     public MetadataStatementsBasedTrustAnchorRepository(MetadataStatementsProvider metadataStatementsProvider) {
         this.metadataStatementsProvider = metadataStatementsProvider;
@@ -44,18 +51,34 @@ public class MetadataStatementsBasedTrustAnchorRepository implements TrustAnchor
 
     @Override
     public Set<TrustAnchor> find(AAGUID aaguid) {
-        return metadataStatementsProvider.provide().stream()
-                .filter(metadataStatement -> Objects.equals(aaguid, metadataStatement.getAaguid()))
-                .flatMap(metadataStatement -> metadataStatement.getAttestationRootCertificates().stream())
-                .map(item -> new TrustAnchor(item, null))
-                .collect(Collectors.toSet());
+        List<MetadataStatement> metadataStatements = metadataStatementsProvider.provide();
+        return aaguidCache.get(Collections.singletonList(metadataStatements), aaguid, key ->
+                indexCache.get(metadataStatements).find(key).stream()
+                        .flatMap(metadataStatement -> metadataStatement.getAttestationRootCertificates().stream())
+                        .map(item -> new TrustAnchor(item, null))
+                        .collect(Collectors.toSet()));
     }
 
     @Override
     public Set<TrustAnchor> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataStatementsProvider.provide().stream()
-                .filter(metadataStatement -> metadataStatement.getAttestationCertificateKeyIdentifiers() != null && metadataStatement.getAttestationCertificateKeyIdentifiers().stream().anyMatch(identifier -> Arrays.equals(HexUtil.decode(identifier), attestationCertificateKeyIdentifier)))
-                .map(metadataStatement -> new TrustAnchor(metadataStatement.getAttestationRootCertificates().get(0), null))
-                .collect(Collectors.toSet());
+        List<MetadataStatement> metadataStatements = metadataStatementsProvider.provide();
+        ByteBuffer cacheKey = attestationCertificateKeyIdentifier == null ? null : ByteBuffer.wrap(attestationCertificateKeyIdentifier.clone());
+        return attestationCertificateKeyIdentifierCache.get(Collections.singletonList(metadataStatements), cacheKey, key ->
+                indexCache.get(metadataStatements).find(attestationCertificateKeyIdentifier).stream()
+                        .map(metadataStatement -> new TrustAnchor(metadataStatement.getAttestationRootCertificates().get(0), null))
+                        .collect(Collectors.toSet()));
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns a version which changes when the provider hands out a different list of metadata statements, or
+     * {@link #UNKNOWN_VERSION} if the provider is not {@link MetadataStatementsProvider#isStable() stable}. A provider
+     * returning a new list on every call would otherwise change the version on every call and be asked twice per lookup.
+     */
+    @Override
+    public long getVersion() {
+        if (!metadataStatementsProvider.isStable()) {
+            return UNKNOWN_VERSION;
+        }
+        return aaguidCache.getVersion(Collections.singletonList(metadataStatementsProvider.provide()));
+    }
+}
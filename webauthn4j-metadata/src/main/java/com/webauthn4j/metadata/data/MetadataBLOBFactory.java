@@ -35,4 +35,9 @@ public class MetadataBLOBFactory {
         return new MetadataBLOB(jws);
     }
 
+    public @NotNull MetadataBLOB parse(@NotNull byte[] value){
+        JWS<MetadataBLOBPayload> jws = jwsFactory.parse(value, MetadataBLOBPayload.class);
+        return new MetadataBLOB(jws);
+    }
+
 }
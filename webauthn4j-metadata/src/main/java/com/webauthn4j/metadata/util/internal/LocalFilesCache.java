@@ -0,0 +1,165 @@
+package com.webauthn4j.metadata.util.internal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Keeps parsed contents of local files, re-reading only the files whose modification time or size changed.
+ * The file states are polled at most once per poll interval. The returned list keeps its identity while no file
+ * changes, and is swapped as a whole when one does, so identity-keyed caches built on top of it stay consistent.
+ *
+ * @param <T> parsed item type
+ */
+public class LocalFilesCache<T> {
+
+    private final Path[] paths;
+    private final Function<byte[], T> parser;
+    private final Object reloadLock = new Object();
+
+    private volatile Duration pollInterval = Duration.ofSeconds(5);
+    private volatile Snapshot<T> snapshot;
+
+    public LocalFilesCache(Path[] paths, Function<byte[], T> parser) {
+        this.paths = paths.clone();
+        this.parser = parser;
+    }
+
+    public List<T> get(Function<Path, byte[]> reader) {
+        Snapshot<T> current = snapshot;
+        if (current != null && !current.isCheckDue(pollInterval)) {
+            return current.items;
+        }
+        synchronized (reloadLock) {
+            current = snapshot;
+            if (current != null && !current.isCheckDue(pollInterval)) {
+                return current.items;
+            }
+            FileState[] states = readFileStates();
+            List<T> items = new ArrayList<>(paths.length);
+            for (int i = 0; i < paths.length; i++) {
+                items.add(isUnchanged(current, states, i) ? current.items.get(i) : parser.apply(reader.apply(paths[i])));
+            }
+            return swap(current, states, items);
+        }
+    }
+
+    public CompletableFuture<List<T>> getAsync(Function<Path, CompletionStage<byte[]>> reader) {
+        Snapshot<T> current = snapshot;
+        if (current != null && !current.isCheckDue(pollInterval)) {
+            return CompletableFuture.completedFuture(current.items);
+        }
+        FileState[] states;
+        try {
+            states = readFileStates();
+        } catch (UncheckedIOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(paths.length);
+        for (int i = 0; i < paths.length; i++) {
+            if (isUnchanged(current, states, i)) {
+                futures.add(CompletableFuture.completedFuture(current.items.get(i)));
+            } else {
+                futures.add(reader.apply(paths[i]).toCompletableFuture().thenApply(parser));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(unused -> {
+            List<T> items = new ArrayList<>(paths.length);
+            futures.forEach(future -> items.add(future.join()));
+            synchronized (reloadLock) {
+                return swap(current, states, items);
+            }
+        });
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    private List<T> swap(Snapshot<T> previous, FileState[] states, List<T> items) {
+        if (snapshot != previous) {
+            // a concurrent reload has already swapped the snapshot; don't overwrite it with possibly older contents
+            return Collections.unmodifiableList(items);
+        }
+        Snapshot<T> next;
+        if (previous != null && Arrays.equals(previous.states, states)) {
+            // nothing changed: keep the list identity
+            next = new Snapshot<>(states, previous.items);
+        } else {
+            next = new Snapshot<>(states, Collections.unmodifiableList(items));
+        }
+        snapshot = next;
+        return next.items;
+    }
+
+    private boolean isUnchanged(Snapshot<T> current, FileState[] states, int index) {
+        return current != null && current.states[index].equals(states[index]);
+    }
+
+    private FileState[] readFileStates() {
+        FileState[] states = new FileState[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(paths[i], BasicFileAttributes.class);
+                states[i] = new FileState(attributes.lastModifiedTime(), attributes.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read attributes of " + paths[i], e);
+            }
+        }
+        return states;
+    }
+
+    private static class Snapshot<T> {
+        private final FileState[] states;
+        private final List<T> items;
+        private final long checkedAt = System.nanoTime();
+
+        private Snapshot(FileState[] states, List<T> items) {
+            this.states = states;
+            this.items = items;
+        }
+
+        private boolean isCheckDue(Duration pollInterval) {
+            return System.nanoTime() - checkedAt >= pollInterval.toNanos();
+        }
+    }
+
+    private static class FileState {
+        private final FileTime lastModifiedTime;
+        private final long size;
+
+        private FileState(FileTime lastModifiedTime, long size) {
+            this.lastModifiedTime = lastModifiedTime;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            FileState fileState = (FileState) o;
+            return size == fileState.size && Objects.equals(lastModifiedTime, fileState.lastModifiedTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModifiedTime, size);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.webauthn4j.metadata.util.internal;
 
+import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
 import com.webauthn4j.metadata.data.toc.StatusReport;
 import org.jetbrains.annotations.NotNull;
@@ -10,6 +11,14 @@ public class MetadataBLOBUtil {
 
     private MetadataBLOBUtil(){}
 
+    public static @NotNull MetadataIndex<MetadataBLOBPayloadEntry> createIndex(@NotNull MetadataBLOB metadataBLOB) {
+        return MetadataIndex.build(
+                metadataBLOB.getPayload().getEntries(),
+                MetadataBLOBPayloadEntry::getAaguid,
+                entry -> entry.getMetadataStatement() == null ? null : entry.getMetadataStatement().getAttestationCertificateKeyIdentifiers()
+        );
+    }
+
     public static boolean checkMetadataBLOBPayloadEntry(@NotNull MetadataBLOBPayloadEntry metadataBLOBPayloadEntry, boolean notFidoCertifiedAllowed, boolean selfAssertionSubmittedAllowed) {
         List<StatusReport> statusReports = metadataBLOBPayloadEntry.getStatusReports();
         for (StatusReport report : statusReports) {
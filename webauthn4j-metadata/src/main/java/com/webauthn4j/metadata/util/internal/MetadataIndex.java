@@ -0,0 +1,70 @@
+package com.webauthn4j.metadata.util.internal;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.util.HexUtil;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Immutable hash index of metadata items by AAGUID and by attestation certificate key identifier
+ *
+ * @param <T> indexed item type
+ */
+public class MetadataIndex<T> {
+
+    private final Map<AAGUID, List<T>> aaguidIndex;
+    // keyed by read-only ByteBuffer as it provides content based equals/hashCode for byte arrays
+    private final Map<ByteBuffer, List<T>> attestationCertificateKeyIdentifierIndex;
+
+    private MetadataIndex(Map<AAGUID, List<T>> aaguidIndex, Map<ByteBuffer, List<T>> attestationCertificateKeyIdentifierIndex) {
+        this.aaguidIndex = aaguidIndex;
+        this.attestationCertificateKeyIdentifierIndex = attestationCertificateKeyIdentifierIndex;
+    }
+
+    public static <T> MetadataIndex<T> build(Collection<T> items, Function<T, AAGUID> aaguidExtractor, Function<T, List<String>> attestationCertificateKeyIdentifiersExtractor) {
+        Map<AAGUID, List<T>> aaguidIndex = new HashMap<>();
+        Map<ByteBuffer, List<T>> attestationCertificateKeyIdentifierIndex = new HashMap<>();
+        for (T item : items) {
+            if (item == null) {
+                continue;
+            }
+            // null AAGUID is indexed as well to keep the semantics of Objects.equals based lookup
+            aaguidIndex.computeIfAbsent(aaguidExtractor.apply(item), key -> new ArrayList<>()).add(item);
+            List<String> identifiers = attestationCertificateKeyIdentifiersExtractor.apply(item);
+            if (identifiers == null) {
+                continue;
+            }
+            for (String identifier : identifiers) {
+                byte[] bytes;
+                try {
+                    bytes = HexUtil.decode(identifier);
+                } catch (RuntimeException e) {
+                    continue; // malformed identifier never matches
+                }
+                List<T> list = attestationCertificateKeyIdentifierIndex.computeIfAbsent(ByteBuffer.wrap(bytes).asReadOnlyBuffer(), key -> new ArrayList<>());
+                if (!list.contains(item)) {
+                    list.add(item);
+                }
+            }
+        }
+        return new MetadataIndex<>(freeze(aaguidIndex), freeze(attestationCertificateKeyIdentifierIndex));
+    }
+
+    private static <K, T> Map<K, List<T>> freeze(Map<K, List<T>> map) {
+        map.replaceAll((key, value) -> Collections.unmodifiableList(value));
+        return Collections.unmodifiableMap(map);
+    }
+
+    public List<T> find(AAGUID aaguid) {
+        return aaguidIndex.getOrDefault(aaguid, Collections.emptyList());
+    }
+
+    public List<T> find(byte[] attestationCertificateKeyIdentifier) {
+        if (attestationCertificateKeyIdentifier == null) {
+            return Collections.emptyList();
+        }
+        return attestationCertificateKeyIdentifierIndex.getOrDefault(ByteBuffer.wrap(attestationCertificateKeyIdentifier), Collections.emptyList());
+    }
+}
@@ -0,0 +1,42 @@
+package com.webauthn4j.metadata.util.internal;
+
+import java.util.function.Function;
+
+/**
+ * Holds the {@link MetadataIndex} built from the latest source and rebuilds it when the source instance changes.
+ * The source and its index are swapped atomically, so readers never observe an index of a different source.
+ *
+ * @param <S> source type, such as a MetadataBLOB or a list of metadata statements
+ * @param <T> indexed item type
+ */
+public class MetadataIndexCache<S, T> {
+
+    private final Function<S, MetadataIndex<T>> indexBuilder;
+    private volatile Snapshot<S, T> snapshot;
+
+    public MetadataIndexCache(Function<S, MetadataIndex<T>> indexBuilder) {
+        this.indexBuilder = indexBuilder;
+    }
+
+    public MetadataIndex<T> get(S source) {
+        Snapshot<S, T> current = snapshot;
+        // identity comparison is intentional. Providers return the same immutable instance until the contents change,
+        // as documented on MetadataStatementsProvider and MetadataBLOBProvider.
+        if (current != null && current.source == source) {
+            return current.index;
+        }
+        MetadataIndex<T> index = indexBuilder.apply(source);
+        snapshot = new Snapshot<>(source, index);
+        return index;
+    }
+
+    private static class Snapshot<S, T> {
+        private final S source;
+        private final MetadataIndex<T> index;
+
+        private Snapshot(S source, MetadataIndex<T> index) {
+            this.source = source;
+            this.index = index;
+        }
+    }
+}
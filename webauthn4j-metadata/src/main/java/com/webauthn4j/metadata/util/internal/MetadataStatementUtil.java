@@ -3,10 +3,16 @@ package com.webauthn4j.metadata.util.internal;
 import com.webauthn4j.data.AuthenticatorAttestationType;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
 
+import java.util.List;
+
 public class MetadataStatementUtil {
 
     private MetadataStatementUtil(){}
 
+    public static MetadataIndex<MetadataStatement> createIndex(List<MetadataStatement> metadataStatements) {
+        return MetadataIndex.build(metadataStatements, MetadataStatement::getAaguid, MetadataStatement::getAttestationCertificateKeyIdentifiers);
+    }
+
     public static boolean checkSurrogateMetadataStatementAttestationRootCertificate(MetadataStatement metadataStatement) {
         boolean isSurrogate = metadataStatement != null && metadataStatement.getAttestationTypes().stream().allMatch(type -> type.equals(AuthenticatorAttestationType.BASIC_SURROGATE));
 
@@ -0,0 +1,84 @@
+package com.webauthn4j.metadata.util.internal;
+
+import java.security.cert.TrustAnchor;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caches immutable {@link TrustAnchor} sets per lookup key, versioned by the identity of the underlying sources.
+ * When any source instance changes (e.g. a MetadataBLOB is refreshed), all cached sets are discarded.
+ * Empty results are not cached, so lookups with unknown keys cannot grow the cache.
+ *
+ * @param <K> lookup key type
+ */
+public class TrustAnchorSetCache<K> {
+
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile Version<K> version;
+
+    public Set<TrustAnchor> get(List<?> sources, K key, Function<K, Set<TrustAnchor>> loader) {
+        if (key == null) {
+            return loader.apply(null);
+        }
+        Version<K> current = getCurrentVersion(sources);
+        Set<TrustAnchor> trustAnchors = current.trustAnchorSets.get(key);
+        if (trustAnchors != null) {
+            return trustAnchors;
+        }
+        trustAnchors = Collections.unmodifiableSet(loader.apply(key));
+        if (!trustAnchors.isEmpty()) {
+            current.trustAnchorSets.putIfAbsent(key, trustAnchors);
+        }
+        return trustAnchors;
+    }
+
+    /**
+     * Returns the version number of the cache for the sources. It changes whenever the cached sets are discarded.
+     */
+    public long getVersion(List<?> sources) {
+        return getCurrentVersion(sources).number;
+    }
+
+    public void invalidate() {
+        version = null;
+    }
+
+    private Version<K> getCurrentVersion(List<?> sources) {
+        Version<K> current = version;
+        if (current == null || !current.isBuiltFrom(sources)) {
+            current = new Version<>(sources, versionSequence.incrementAndGet());
+            version = current;
+        }
+        return current;
+    }
+
+    private static class Version<K> {
+        private final List<?> sources;
+        private final long number;
+        private final Map<K, Set<TrustAnchor>> trustAnchorSets = new ConcurrentHashMap<>();
+
+        private Version(List<?> sources, long number) {
+            this.sources = sources;
+            this.number = number;
+        }
+
+        private boolean isBuiltFrom(List<?> otherSources) {
+            if (sources.size() != otherSources.size()) {
+                return false;
+            }
+            for (int i = 0; i < sources.size(); i++) {
+                // identity comparison is intentional. Providers return the same immutable instance until the contents change,
+                // as documented on MetadataStatementsProvider and MetadataBLOBProvider.
+                if (sources.get(i) != otherSources.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
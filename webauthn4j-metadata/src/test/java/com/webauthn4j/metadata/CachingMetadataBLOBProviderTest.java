@@ -8,11 +8,17 @@ import com.webauthn4j.data.jws.JWSHeader;
 import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.MetadataBLOBPayload;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.mockito.Mockito.*;
 
@@ -67,6 +73,74 @@ class CachingMetadataBLOBProviderTest {
         }
     }
 
+    @Test
+    void background_refresh_serves_stale_blob_until_refreshed_test(){
+        MetadataBLOB first = createMetadataBLOB(LocalDate.of(2020, 1, 2));
+        MetadataBLOB second = createMetadataBLOB(LocalDate.of(2020, 2, 2));
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        when(target.doProvide()).thenReturn(first, second);
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        LocalDate firstTrialDay = LocalDate.of(2020, 1, 1);
+        LocalDate secondTrialDay = LocalDate.of(2020, 1, 3);
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(firstTrialDay);
+            target.startBackgroundRefresh(scheduler);
+            assertThat(target.provide()).isSameAs(first);
+
+            mock.when(LocalDate::now).thenReturn(secondTrialDay);
+            assertThat(target.provide()).isSameAs(first);
+            verify(target, times(1)).doProvide();
+
+            verify(scheduler).schedule(task.capture(), eq(0L), eq(TimeUnit.MILLISECONDS));
+            task.getValue().run();
+            assertThat(target.provide()).isSameAs(second);
+            verify(target, times(2)).doProvide();
+            verify(scheduler).schedule(any(Runnable.class), eq(Duration.ofHours(1).toMillis()), eq(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void background_refresh_retries_with_backoff_test(){
+        MetadataBLOB first = createMetadataBLOB(LocalDate.of(2020, 1, 2));
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        when(target.doProvide()).thenReturn(first).thenThrow(new IllegalStateException("unavailable"));
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        LocalDate firstTrialDay = LocalDate.of(2020, 1, 1);
+        LocalDate secondTrialDay = LocalDate.of(2020, 1, 3);
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(firstTrialDay);
+            target.startBackgroundRefresh(scheduler);
+            target.provide();
+
+            mock.when(LocalDate::now).thenReturn(secondTrialDay);
+            verify(scheduler).schedule(task.capture(), eq(0L), eq(TimeUnit.MILLISECONDS));
+            task.getValue().run();
+            verify(scheduler).schedule(any(Runnable.class), eq(Duration.ofMinutes(1).toMillis()), eq(TimeUnit.MILLISECONDS));
+            task.getValue().run();
+            verify(scheduler).schedule(any(Runnable.class), eq(Duration.ofMinutes(2).toMillis()), eq(TimeUnit.MILLISECONDS));
+            assertThat(target.provide()).isSameAs(first);
+        }
+    }
+
+    @Test
+    void background_refresh_falls_back_to_synchronous_refresh_when_max_staleness_is_exceeded_test(){
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        when(target.doProvide()).thenReturn(createMetadataBLOB(LocalDate.of(2020, 1, 2)));
+        target.setMaxStaleness(Duration.ofDays(7));
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        LocalDate firstTrialDay = LocalDate.of(2020, 1, 1);
+        LocalDate secondTrialDay = LocalDate.of(2020, 1, 10);
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(firstTrialDay);
+            target.startBackgroundRefresh(scheduler);
+            target.provide();
+            mock.when(LocalDate::now).thenReturn(secondTrialDay);
+            target.provide();
+            verify(target, times(2)).doProvide();
+        }
+    }
 
     private MetadataBLOB createMetadataBLOB(LocalDate nextUpdate){
         JWSFactory factory = new JWSFactory(new ObjectConverter());
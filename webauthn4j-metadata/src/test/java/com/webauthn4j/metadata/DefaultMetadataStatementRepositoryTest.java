@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 
@@ -46,4 +47,20 @@ class DefaultMetadataStatementRepositoryTest {
         assertThat(target.find(attestationCertificateKeyIdentifier)).containsExactly(metadataStatementA);
     }
 
-}
\ No newline at end of file
+    @Test
+    void find_by_aaguid_reflects_provider_refresh_test(){
+        AAGUID aaguid = new AAGUID(UUID.randomUUID());
+        MetadataStatement metadataStatementA = mock(MetadataStatement.class);
+        MetadataStatement metadataStatementB = mock(MetadataStatement.class);
+        when(metadataStatementA.getAaguid()).thenReturn(aaguid);
+        when(metadataStatementB.getAaguid()).thenReturn(aaguid);
+        List<MetadataStatement> metadataStatements = Collections.singletonList(metadataStatementA);
+        MetadataStatementsProvider mock = mock(MetadataStatementsProvider.class);
+        when(mock.provide()).thenReturn(metadataStatements, metadataStatements, Collections.singletonList(metadataStatementB));
+        DefaultMetadataStatementRepository target = new DefaultMetadataStatementRepository(mock);
+        assertThat(target.find(aaguid)).containsExactly(metadataStatementA);
+        assertThat(target.find(aaguid)).containsExactly(metadataStatementA);
+        assertThat(target.find(aaguid)).containsExactly(metadataStatementB);
+    }
+
+}
@@ -24,20 +24,25 @@ import com.webauthn4j.util.CertificateUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509Certificate;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 class FidoMDS3MetadataBLOBProviderTest {
     private final X509Certificate rootCertificate = CertificateUtil.generateX509Certificate(Base64Util.decode(
@@ -97,4 +102,43 @@ class FidoMDS3MetadataBLOBProviderTest {
             assertThat(target.getCertPathChecker()).isEqualTo(certPathChecker);
         }
     }
+
+    @Nested
+    class when_cache_file_is_configured{
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        void provide_revalidates_persisted_blob_with_conditional_request() throws IOException, URISyntaxException {
+            Path blobJwtPath = Paths.get(ClassLoader.getSystemResource("integration/component/blob.jwt").toURI()); //expired blob
+            Path cacheFile = tempDir.resolve("blob.jwt");
+
+            HttpClient firstHttpClient = mock(HttpClient.class);
+            when(firstHttpClient.fetch(FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT))
+                    .thenReturn(new HttpClient.Response(200, Files.newInputStream(blobJwtPath), Map.of("ETag", List.of("\"v1\""))));
+            FidoMDS3MetadataBLOBProvider first = createProvider(firstHttpClient, cacheFile);
+            MetadataBLOB fetched = first.provide();
+            assertThat(cacheFile).exists();
+
+            HttpClient secondHttpClient = mock(HttpClient.class);
+            when(secondHttpClient.fetch(eq(FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT), anyMap()))
+                    .thenReturn(new HttpClient.Response(304, InputStream.nullInputStream()));
+            FidoMDS3MetadataBLOBProvider second = createProvider(secondHttpClient, cacheFile);
+            MetadataBLOB metadataBLOB = second.provide();
+
+            assertThat(metadataBLOB.getPayload()).isEqualTo(fetched.getPayload());
+            verify(secondHttpClient).fetch(FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT, Map.of("If-None-Match", "\"v1\""));
+            verify(secondHttpClient, never()).fetch(anyString());
+        }
+
+        private FidoMDS3MetadataBLOBProvider createProvider(HttpClient httpClient, Path cacheFile){
+            FidoMDS3MetadataBLOBProvider provider = new FidoMDS3MetadataBLOBProvider(new ObjectConverter(), FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT, httpClient, Collections.singleton(new TrustAnchor(rootCertificate, null)));
+            provider.setCertPathChecker(context -> {
+                //nop
+            });
+            provider.setCacheFile(cacheFile);
+            return provider;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalFilesMetadataStatementsProviderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void provide_test() {
+        Path jsonFilePath = new File("src/test/resources/com/webauthn4j/metadata/JsonMetadataItem_fido2.json").toPath();
+        LocalFilesMetadataStatementsProvider target = new LocalFilesMetadataStatementsProvider(new ObjectConverter(), jsonFilePath);
+        assertThat(target.provide()).hasSize(1);
+        assertThat(target.provide()).isNotSameAs(target.provide());
+    }
+
+    @Test
+    void provide_with_caching_enabled_reloads_only_changed_files_test() throws IOException {
+        Path fido2Path = tempDir.resolve("fido2.json");
+        Path u2fPath = tempDir.resolve("u2f.json");
+        Files.copy(new File("src/test/resources/com/webauthn4j/metadata/JsonMetadataItem_fido2.json").toPath(), fido2Path);
+        Files.copy(new File("src/test/resources/com/webauthn4j/metadata/JsonMetadataItem_fido2.json").toPath(), u2fPath);
+        LocalFilesMetadataStatementsProvider target = new LocalFilesMetadataStatementsProvider(new ObjectConverter(), fido2Path, u2fPath);
+        target.setCachingEnabled(true);
+        target.setPollInterval(Duration.ZERO);
+
+        List<MetadataStatement> first = target.provide();
+        assertThat(target.provide()).isSameAs(first);
+
+        Files.copy(new File("src/test/resources/com/webauthn4j/metadata/JsonMetadataItem_u2f.json").toPath(), u2fPath, StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(u2fPath, FileTime.fromMillis(Files.getLastModifiedTime(u2fPath).toMillis() + 60_000));
+        List<MetadataStatement> second = target.provide();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.get(0)).isSameAs(first.get(0));
+        assertThat(second.get(1)).isNotEqualTo(first.get(1));
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.exception.MDSException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnapshotMetadataStatementsProviderTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void write_and_provide_test() {
+        Path fido2Path = new File("src/test/resources/com/webauthn4j/metadata/JsonMetadataItem_fido2.json").toPath();
+        Path u2fPath = new File("src/test/resources/com/webauthn4j/metadata/JsonMetadataItem_u2f.json").toPath();
+        List<MetadataStatement> metadataStatements = new LocalFilesMetadataStatementsProvider(objectConverter, fido2Path, u2fPath).provide();
+        Path snapshotPath = tempDir.resolve("metadata.snapshot");
+
+        SnapshotMetadataStatementsProvider.write(objectConverter, snapshotPath, metadataStatements);
+        SnapshotMetadataStatementsProvider target = new SnapshotMetadataStatementsProvider(objectConverter, snapshotPath);
+        List<MetadataStatement> loaded = target.provide();
+
+        assertThat(loaded).hasSize(2);
+        for (int i = 0; i < loaded.size(); i++) {
+            assertThat(loaded.get(i).getAaguid()).isEqualTo(metadataStatements.get(i).getAaguid());
+            assertThat(loaded.get(i).getAttestationCertificateKeyIdentifiers()).isEqualTo(metadataStatements.get(i).getAttestationCertificateKeyIdentifiers());
+            assertThat(loaded.get(i).getAttestationRootCertificates()).isEqualTo(metadataStatements.get(i).getAttestationRootCertificates());
+            assertThat(loaded.get(i).getAttestationTypes()).isEqualTo(metadataStatements.get(i).getAttestationTypes());
+            assertThat(loaded.get(i).getIcon()).isNull();
+            assertThat(loaded.get(i).getAuthenticatorGetInfo()).isNull();
+        }
+        assertThat(target.provide()).isSameAs(loaded);
+    }
+
+    @Test
+    void provide_with_unknown_format_test() throws IOException {
+        Path snapshotPath = tempDir.resolve("metadata.snapshot");
+        Files.write(snapshotPath, new byte[]{0x00, 0x01, 0x02});
+        SnapshotMetadataStatementsProvider target = new SnapshotMetadataStatementsProvider(objectConverter, snapshotPath);
+        assertThatThrownBy(target::provide).isInstanceOf(MDSException.class);
+    }
+
+}
@@ -22,11 +22,11 @@ import org.junit.jupiter.api.Test;
 
 import java.security.cert.TrustAnchor;
 import java.util.Collections;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class AggregatingTrustAnchorRepositoryTest {
 
@@ -56,4 +56,43 @@ class AggregatingTrustAnchorRepositoryTest {
         assertThat(target.find(attestationCertificateKeyIdentifier)).containsExactlyInAnyOrder(trustAnchorA, trustAnchorB);
     }
 
-}
\ No newline at end of file
+    @Test
+    void find_by_aaguid_caches_merged_result_until_child_version_changes_test(){
+        AAGUID aaguid = new AAGUID(UUID.randomUUID());
+        TrustAnchorRepository mockA = mock(TrustAnchorRepository.class);
+        TrustAnchorRepository mockB = mock(TrustAnchorRepository.class);
+        when(mockA.find(aaguid)).thenReturn(Collections.singleton(mock(TrustAnchor.class)));
+        when(mockB.find(aaguid)).thenReturn(Collections.singleton(mock(TrustAnchor.class)));
+        when(mockA.getVersion()).thenReturn(1L);
+        when(mockB.getVersion()).thenReturn(1L);
+        TrustAnchorRepository target = new AggregatingTrustAnchorRepository(mockA, mockB);
+
+        Set<TrustAnchor> first = target.find(aaguid);
+        long firstVersion = target.getVersion();
+        assertThat(target.find(aaguid)).isSameAs(first);
+        verify(mockA, times(1)).find(aaguid);
+
+        when(mockB.getVersion()).thenReturn(2L);
+        assertThat(target.find(aaguid)).isNotSameAs(first).isEqualTo(first);
+        assertThat(target.getVersion()).isNotEqualTo(firstVersion);
+        verify(mockA, times(2)).find(aaguid);
+    }
+
+    @Test
+    void find_by_aaguid_does_not_cache_when_child_version_is_unknown_test(){
+        AAGUID aaguid = new AAGUID(UUID.randomUUID());
+        TrustAnchorRepository mockA = mock(TrustAnchorRepository.class);
+        TrustAnchorRepository mockB = mock(TrustAnchorRepository.class);
+        when(mockA.find(aaguid)).thenReturn(Collections.singleton(mock(TrustAnchor.class)));
+        when(mockB.find(aaguid)).thenReturn(Collections.emptySet());
+        when(mockA.getVersion()).thenReturn(1L);
+        when(mockB.getVersion()).thenReturn(TrustAnchorRepository.UNKNOWN_VERSION);
+        TrustAnchorRepository target = new AggregatingTrustAnchorRepository(mockA, mockB);
+
+        target.find(aaguid);
+        target.find(aaguid);
+        verify(mockA, times(2)).find(aaguid);
+        assertThat(target.getVersion()).isEqualTo(TrustAnchorRepository.UNKNOWN_VERSION);
+    }
+
+}
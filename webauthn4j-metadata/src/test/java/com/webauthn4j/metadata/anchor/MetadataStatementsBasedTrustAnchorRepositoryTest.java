@@ -16,15 +16,22 @@
 
 package com.webauthn4j.metadata.anchor;
 
+import com.webauthn4j.anchor.TrustAnchorRepository;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.LocalFilesMetadataStatementsProvider;
+import com.webauthn4j.metadata.MetadataStatementsProvider;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
 import com.webauthn4j.util.HexUtil;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.security.cert.TrustAnchor;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -46,4 +53,57 @@ class MetadataStatementsBasedTrustAnchorRepositoryTest {
         assertThat(trustAnchors).hasSize(1);
     }
 
-}
\ No newline at end of file
+    @Test
+    void find_by_aaguid_returns_cached_set_until_provider_refresh_test(){
+        Path jsonFilePath = new File("src/test/resources/com/webauthn4j/metadata/JsonMetadataItem_fido2.json").toPath();
+        List<MetadataStatement> metadataStatements = new LocalFilesMetadataStatementsProvider(new ObjectConverter(), jsonFilePath).provide();
+        AtomicReference<List<MetadataStatement>> source = new AtomicReference<>(metadataStatements);
+        MetadataStatementsBasedTrustAnchorRepository repository = new MetadataStatementsBasedTrustAnchorRepository(source::get);
+        AAGUID aaguid = new AAGUID("0132d110-bf4e-4208-a403-ab4f5f12efe5");
+
+        Set<TrustAnchor> first = repository.find(aaguid);
+        assertThat(repository.find(aaguid)).isSameAs(first);
+
+        source.set(Collections.emptyList());
+        assertThat(repository.find(aaguid)).isEmpty();
+    }
+
+    @Test
+    void getVersion_with_non_caching_provider_test(){
+        Path jsonFilePath = new File("src/test/resources/com/webauthn4j/metadata/JsonMetadataItem_fido2.json").toPath();
+        MetadataStatementsBasedTrustAnchorRepository repository = new MetadataStatementsBasedTrustAnchorRepository(new ObjectConverter(), jsonFilePath);
+        assertThat(repository.getVersion()).isEqualTo(TrustAnchorRepository.UNKNOWN_VERSION);
+    }
+
+    @Test
+    void getVersion_with_caching_provider_test(){
+        Path jsonFilePath = new File("src/test/resources/com/webauthn4j/metadata/JsonMetadataItem_fido2.json").toPath();
+        LocalFilesMetadataStatementsProvider provider = new LocalFilesMetadataStatementsProvider(new ObjectConverter(), jsonFilePath);
+        provider.setCachingEnabled(true);
+        MetadataStatementsBasedTrustAnchorRepository repository = new MetadataStatementsBasedTrustAnchorRepository(provider);
+        long version = repository.getVersion();
+        assertThat(version).isNotEqualTo(TrustAnchorRepository.UNKNOWN_VERSION);
+        assertThat(repository.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    void getVersion_changes_when_stable_provider_hands_out_new_list_test(){
+        Path jsonFilePath = new File("src/test/resources/com/webauthn4j/metadata/JsonMetadataItem_fido2.json").toPath();
+        AtomicReference<List<MetadataStatement>> source = new AtomicReference<>(new LocalFilesMetadataStatementsProvider(new ObjectConverter(), jsonFilePath).provide());
+        MetadataStatementsBasedTrustAnchorRepository repository = new MetadataStatementsBasedTrustAnchorRepository(new MetadataStatementsProvider() {
+            @Override
+            public List<MetadataStatement> provide() {
+                return source.get();
+            }
+
+            @Override
+            public boolean isStable() {
+                return true;
+            }
+        });
+        long version = repository.getVersion();
+        source.set(Collections.emptyList());
+        assertThat(repository.getVersion()).isNotEqualTo(version);
+    }
+
+}
@@ -18,6 +18,8 @@ package com.webauthn4j.util;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Base64;
 
 /**
@@ -41,6 +43,28 @@ public class Base64UrlUtil {
         return decoder.decode(source);
     }
 
+    public static @NotNull byte[] decode(@NotNull ByteBuffer source) {
+        AssertUtil.notNull(source, "source must not be null");
+        ByteBuffer decoded = decoder.decode(source);
+        if (decoded.hasArray() && decoded.arrayOffset() == 0 && decoded.remaining() == decoded.array().length) {
+            return decoded.array();
+        }
+        byte[] bytes = new byte[decoded.remaining()];
+        decoded.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Wraps an input stream of base64url encoded data with a stream which decodes it on the fly.
+     *
+     * @param source base64url encoded input stream
+     * @return decoding input stream
+     */
+    public static @NotNull InputStream wrap(@NotNull InputStream source) {
+        AssertUtil.notNull(source, "source must not be null");
+        return decoder.wrap(source);
+    }
+
     public static @NotNull byte[] encode(@NotNull byte[] source) {
         AssertUtil.notNull(source, "source must not be null");
         return encoder.encode(source);
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.MessageDigest;
+import java.security.Signature;
+
+/**
+ * Pool of {@link Signature} and {@link MessageDigest} instances keyed by JCA algorithm name.
+ * <p>
+ * Looking up a JCA engine walks the provider list under its locks, which is costly on the verification hot path.
+ * Instances returned from a pool are confined to the calling thread and must be used immediately:
+ * callers must initialize a {@link Signature} before use, must not retain the instance, and must not
+ * obtain another instance of the same algorithm from the pool while still using it.
+ * <p>
+ * The default pool used by {@link SignatureUtil#getSignature(String)} and {@link MessageDigestUtil#getMessageDigest(String)}
+ * is {@link ThreadLocalCryptoPrimitivePool}. It can be replaced with {@link #setDefault(CryptoPrimitivePool)},
+ * e.g. with {@link NonPooledCryptoPrimitivePool} for JCA providers whose engines must not be reused.
+ */
+public interface CryptoPrimitivePool {
+
+    static @NotNull CryptoPrimitivePool getDefault() {
+        return CryptoPrimitivePoolHolder.getDefault();
+    }
+
+    static void setDefault(@NotNull CryptoPrimitivePool cryptoPrimitivePool) {
+        AssertUtil.notNull(cryptoPrimitivePool, "cryptoPrimitivePool must not be null");
+        CryptoPrimitivePoolHolder.setDefault(cryptoPrimitivePool);
+    }
+
+    /**
+     * Returns a {@link Signature} for the algorithm. The caller must call initVerify or initSign before use.
+     *
+     * @param algorithm JCA signature algorithm name
+     * @return {@link Signature}
+     */
+    @NotNull Signature getSignature(@NotNull String algorithm);
+
+    /**
+     * Returns a {@link MessageDigest} for the algorithm in its initial state.
+     *
+     * @param algorithm JCA message digest algorithm name
+     * @return {@link MessageDigest}
+     */
+    @NotNull MessageDigest getMessageDigest(@NotNull String algorithm);
+
+}
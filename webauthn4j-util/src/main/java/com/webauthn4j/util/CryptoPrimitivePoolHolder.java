@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Holds the default {@link CryptoPrimitivePool}
+ */
+class CryptoPrimitivePoolHolder {
+
+    private static volatile CryptoPrimitivePool defaultCryptoPrimitivePool = new ThreadLocalCryptoPrimitivePool();
+
+    private CryptoPrimitivePoolHolder() {
+    }
+
+    static @NotNull CryptoPrimitivePool getDefault() {
+        return defaultCryptoPrimitivePool;
+    }
+
+    static void setDefault(@NotNull CryptoPrimitivePool cryptoPrimitivePool) {
+        defaultCryptoPrimitivePool = cryptoPrimitivePool;
+    }
+
+}
@@ -51,4 +51,25 @@ public class MessageDigestUtil {
         return createMessageDigest("SHA-256");
     }
 
+    /**
+     * Returns a {@link MessageDigest} from the default {@link CryptoPrimitivePool}.
+     * The instance is confined to the calling thread and must not be retained.
+     *
+     * @param hashAlgorithm JCA message digest algorithm name
+     * @return {@link MessageDigest}
+     */
+    public static @NotNull MessageDigest getMessageDigest(@NotNull String hashAlgorithm) {
+        return CryptoPrimitivePool.getDefault().getMessageDigest(hashAlgorithm);
+    }
+
+    /**
+     * Returns a SHA-256 {@link MessageDigest} from the default {@link CryptoPrimitivePool}.
+     * The instance is confined to the calling thread and must not be retained.
+     *
+     * @return {@link MessageDigest}
+     */
+    public static @NotNull MessageDigest getSHA256() {
+        return getMessageDigest("SHA-256");
+    }
+
 }
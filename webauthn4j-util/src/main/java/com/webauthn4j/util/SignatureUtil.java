@@ -46,4 +46,15 @@ public class SignatureUtil {
         }
     }
 
+    /**
+     * Returns a {@link Signature} from the default {@link CryptoPrimitivePool}.
+     * The instance is confined to the calling thread and must be initialized before use and not be retained.
+     *
+     * @param algorithm JCA signature algorithm name
+     * @return {@link Signature}
+     */
+    public static @NotNull Signature getSignature(@NotNull String algorithm) {
+        return CryptoPrimitivePool.getDefault().getSignature(algorithm);
+    }
+
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link CryptoPrimitivePool} implementation which keeps one instance per algorithm for each thread
+ */
+public class ThreadLocalCryptoPrimitivePool implements CryptoPrimitivePool {
+
+    private final ThreadLocal<Map<String, Signature>> signatures = ThreadLocal.withInitial(HashMap::new);
+    private final ThreadLocal<Map<String, MessageDigest>> messageDigests = ThreadLocal.withInitial(HashMap::new);
+
+    @Override
+    public @NotNull Signature getSignature(@NotNull String algorithm) {
+        AssertUtil.notNull(algorithm, "algorithm must not be null");
+        return signatures.get().computeIfAbsent(algorithm, SignatureUtil::createSignature);
+    }
+
+    @Override
+    public @NotNull MessageDigest getMessageDigest(@NotNull String algorithm) {
+        AssertUtil.notNull(algorithm, "algorithm must not be null");
+        MessageDigest messageDigest = messageDigests.get().computeIfAbsent(algorithm, MessageDigestUtil::createMessageDigest);
+        messageDigest.reset();
+        return messageDigest;
+    }
+
+}
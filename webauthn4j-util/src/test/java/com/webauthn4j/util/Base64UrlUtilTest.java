@@ -18,6 +18,11 @@ package com.webauthn4j.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class Base64UrlUtilTest {
@@ -37,4 +42,21 @@ class Base64UrlUtilTest {
         byte[] result = Base64UrlUtil.decode(data);
         assertThat(result).isEqualTo(expected);
     }
+
+    @Test
+    void decode_ByteBuffer_test() {
+        byte[] data = new byte[]{0x2E, 0x41, 0x53, 0x4E, 0x46, 0x2E};
+        byte[] expected = new byte[]{0x01, 0x23, 0x45};
+        byte[] result = Base64UrlUtil.decode(ByteBuffer.wrap(data, 1, 4));
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    void wrap_test() throws IOException {
+        byte[] data = new byte[]{0x41, 0x53, 0x4E, 0x46};
+        byte[] expected = new byte[]{0x01, 0x23, 0x45};
+        try (InputStream inputStream = Base64UrlUtil.wrap(new ByteArrayInputStream(data))) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(expected);
+        }
+    }
 }
@@ -51,4 +51,20 @@ class MessageDigestUtilTest {
                 () -> MessageDigestUtil.createMessageDigest("wrong-arg")
         );
     }
+
+    @Test
+    void getSHA256_test() {
+        assertThat(MessageDigestUtil.getSHA256().getAlgorithm()).isEqualTo("SHA-256");
+    }
+
+    @Test
+    void getMessageDigest_with_NonPooledCryptoPrimitivePool_test() {
+        CryptoPrimitivePool original = CryptoPrimitivePool.getDefault();
+        try {
+            CryptoPrimitivePool.setDefault(new NonPooledCryptoPrimitivePool());
+            assertThat(MessageDigestUtil.getMessageDigest("SHA-256")).isNotSameAs(MessageDigestUtil.getMessageDigest("SHA-256"));
+        } finally {
+            CryptoPrimitivePool.setDefault(original);
+        }
+    }
 }
@@ -54,4 +54,9 @@ class SignatureUtilTest {
         );
         assertThat(t).hasMessageContaining("dummyAlg Signature not available");
     }
+
+    @Test
+    void getSignature_test() {
+        assertThat(SignatureUtil.getSignature("SHA256withRSA").getAlgorithm()).isEqualTo("SHA256withRSA");
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ThreadLocalCryptoPrimitivePoolTest {
+
+    private final ThreadLocalCryptoPrimitivePool target = new ThreadLocalCryptoPrimitivePool();
+
+    @Test
+    void getSignature_returns_same_instance_on_same_thread_test() {
+        Signature signature = target.getSignature("SHA256withECDSA");
+        assertThat(signature.getAlgorithm()).isEqualTo("SHA256withECDSA");
+        assertThat(target.getSignature("SHA256withECDSA")).isSameAs(signature);
+        assertThat(target.getSignature("SHA256withRSA")).isNotSameAs(signature);
+    }
+
+    @Test
+    void getSignature_returns_different_instance_on_different_thread_test() {
+        Signature signature = target.getSignature("SHA256withECDSA");
+        Signature signatureOnOtherThread = CompletableFuture.supplyAsync(() -> target.getSignature("SHA256withECDSA")).join();
+        assertThat(signatureOnOtherThread).isNotSameAs(signature);
+    }
+
+    @Test
+    void getSignature_with_illegal_argument_test() {
+        assertThrows(IllegalArgumentException.class,
+                () -> target.getSignature("dummyAlg")
+        );
+    }
+
+    @Test
+    void getMessageDigest_returns_reset_instance_test() {
+        MessageDigest messageDigest = target.getMessageDigest("SHA-256");
+        messageDigest.update("garbage".getBytes(StandardCharsets.UTF_8));
+
+        MessageDigest reused = target.getMessageDigest("SHA-256");
+        assertThat(reused).isSameAs(messageDigest);
+        assertThat(reused.digest("data".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo(MessageDigestUtil.createSHA256().digest("data".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void getMessageDigest_with_alias_test() {
+        assertThat(target.getMessageDigest("S256").getAlgorithm()).isEqualTo("SHA-256");
+    }
+
+}